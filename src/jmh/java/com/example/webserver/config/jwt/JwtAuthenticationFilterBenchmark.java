@@ -0,0 +1,103 @@
+package com.example.webserver.config.jwt;
+
+import com.example.webserver.auth.service.AccessTokenRevocationService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터의 요청당 비용 벤치마크
+ * - filterCached: 같은 토큰이 반복되는 경우 (검증 캐시 적중)
+ * - filterCold: 캐시를 끈 Provider (max-size=0, 매 요청 서명 검증 + 파싱 1회)
+ * - legacyTripleParse: 기존 방식 (요청마다 파서를 새로 만들어 3회 파싱: 로그용 검증, 검증, Claims 추출)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("benchmark-secret-key-benchmark-secret-key".getBytes());
+
+    private JwtTokenProvider cachedProvider;
+    private JwtTokenProvider coldProvider;
+    private JwtAuthenticationFilter cachedFilter;
+    private JwtAuthenticationFilter coldFilter;
+    private SecretKey legacyKey;
+    private String token;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() {
+        cachedProvider = provider(10_000);
+        coldProvider = provider(0);
+        // 폐기 목록은 메모리 조회만 측정합니다. (DB 저장소 없이 생성)
+        AccessTokenRevocationService revocation =
+                new AccessTokenRevocationService(null, null, new SimpleMeterRegistry(), Duration.ofSeconds(10));
+        cachedFilter = new JwtAuthenticationFilter(cachedProvider, revocation);
+        coldFilter = new JwtAuthenticationFilter(coldProvider, revocation);
+        legacyKey = Keys.hmacShaKeyFor(Base64.getDecoder().decode(SECRET));
+
+        Authentication login = new UsernamePasswordAuthenticationToken("benchmark-user", "",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        token = cachedProvider.generateTokenDto(login).getAccessToken();
+
+        request = new MockHttpServletRequest("GET", "/api/v1/trips");
+        request.addHeader(JwtAuthenticationFilter.AUTHORIZATION_HEADER, JwtAuthenticationFilter.BEARER_PREFIX + token);
+    }
+
+    private static JwtTokenProvider provider(long cacheSize) {
+        JwtTokenProvider provider = new JwtTokenProvider(new SimpleMeterRegistry(), SECRET,
+                3_600_000L, 604_800_000L, cacheSize);
+        provider.init();
+        return provider;
+    }
+
+    @Benchmark
+    public Object filterCached() throws ServletException, IOException {
+        return runFilter(cachedFilter);
+    }
+
+    @Benchmark
+    public Object filterCold() throws ServletException, IOException {
+        return runFilter(coldFilter);
+    }
+
+    @Benchmark
+    public Object legacyTripleParse() {
+        Jwts.parser().verifyWith(legacyKey).build().parseSignedClaims(token);
+        Jwts.parser().verifyWith(legacyKey).build().parseSignedClaims(token);
+        return Jwts.parser().verifyWith(legacyKey).build().parseSignedClaims(token).getPayload();
+    }
+
+    private Object runFilter(JwtAuthenticationFilter filter) throws ServletException, IOException {
+        // OncePerRequestFilter의 "이미 처리됨" 표시가 남지 않도록 속성을 지웁니다.
+        request.clearAttributes();
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        Object authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        return authentication;
+    }
+}
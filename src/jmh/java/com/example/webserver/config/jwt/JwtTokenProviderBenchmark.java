@@ -0,0 +1,63 @@
+package com.example.webserver.config.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenProvider 공개 메서드 단위 벤치마크 (필터 전체 비용은 JwtAuthenticationFilterBenchmark)
+ * - validateToken: 서명 검증 + 파싱 1회
+ * - resolveUncached: 검증 캐시 없이 서명 검증 + 권한/Principal 생성 (캐시 미스 비용)
+ * - resolveCached: 검증 캐시 적중 (토큰 SHA-256 + 캐시 조회)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private static final String SECRET = Base64.getEncoder()
+            .encodeToString("benchmark-secret-key-benchmark-secret-key".getBytes());
+
+    private JwtTokenProvider provider;
+    private JwtTokenProvider uncachedProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        provider = new JwtTokenProvider(new SimpleMeterRegistry(), SECRET, 3_600_000L, 604_800_000L, 10_000);
+        provider.init();
+        uncachedProvider = new JwtTokenProvider(new SimpleMeterRegistry(), SECRET, 3_600_000L, 604_800_000L, 0);
+        uncachedProvider.init();
+        Authentication login = new UsernamePasswordAuthenticationToken("benchmark-user", "",
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        token = provider.generateTokenDto(login).getAccessToken();
+        provider.resolve(token);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return provider.validateToken(token);
+    }
+
+    @Benchmark
+    public JwtTokenProvider.VerifiedToken resolveUncached() {
+        return uncachedProvider.resolve(token);
+    }
+
+    @Benchmark
+    public JwtTokenProvider.VerifiedToken resolveCached() {
+        return provider.resolve(token);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.webserver.review.dto.response;
+
+import com.example.webserver.auth.entity.User;
+import com.example.webserver.review.entity.ReviewBoard;
+import com.example.webserver.travel.dto.TripResponse;
+import com.example.webserver.travel.entity.Schedule;
+import com.example.webserver.travel.entity.Trip;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 -> 응답 DTO 변환 벤치마크 (목록 한 페이지 분량)
+ * - reviewBoardOf: 리뷰 목록 변환 (ReviewBoardResponseDto.of)
+ * - tripResponse: 일정이 포함된 여행 변환 (TripResponse, 하루 6곳)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ResponseMappingBenchmark {
+
+    private static final int SCHEDULES_PER_DAY = 6;
+
+    @Param({"20", "100"})
+    public int size;
+
+    private List<ReviewBoard> reviews;
+    private Trip trip;
+
+    @Setup
+    public void setUp() {
+        User user = User.builder()
+                .loginUserId("bench")
+                .passwordHash("")
+                .nickname("벤치마크")
+                .build();
+        reviews = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            reviews.add(ReviewBoard.builder()
+                    .user(user)
+                    .title("리뷰 제목 " + i)
+                    .content("리뷰 본문입니다. ".repeat(20))
+                    .region("서울")
+                    .spotContentId(String.valueOf(126508 + i))
+                    .build());
+        }
+
+        // size를 일정 수로 보고 하루 6곳씩 채웁니다.
+        trip = Trip.createTrip("여행", LocalDate.of(2025, 5, 1), LocalDate.of(2025, 5, 1).plusDays(size / SCHEDULES_PER_DAY));
+        for (int i = 0; i < size; i++) {
+            trip.addSchedule(Schedule.createSchedule(i / SCHEDULES_PER_DAY + 1, i % SCHEDULES_PER_DAY,
+                    String.valueOf(126508 + i), "장소 " + i));
+        }
+    }
+
+    @Benchmark
+    public void reviewBoardOf(Blackhole blackhole) {
+        for (ReviewBoard review : reviews) {
+            blackhole.consume(ReviewBoardResponseDto.of(review));
+        }
+    }
+
+    @Benchmark
+    public TripResponse tripResponse() {
+        return new TripResponse(trip);
+    }
+}
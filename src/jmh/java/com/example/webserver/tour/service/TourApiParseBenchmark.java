@@ -0,0 +1,115 @@
+package com.example.webserver.tour.service;
+
+import com.example.webserver.tour.dto.TourItemDto;
+import com.example.webserver.tour.dto.response.TourApiResponseDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 관광공사 API 응답 처리 벤치마크 (지역 1 ~ 5개, 지역당 100건 areaBasedList2 형식 응답)
+ * - parseCombineAndLimit: 지역별 응답 파싱 + 균등 배분 + 잔여 슬롯 채우기 (지역 통합 조회 경로)
+ * - deserialize: 검색 서비스들이 공통으로 쓰는 Map<String, TourApiResponseDto> 역직렬화만
+ *
+ * 응답은 실제 API와 같은 모양(모든 값이 문자열, 빈 값은 "")으로 고정 시드에서 만듭니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TourApiParseBenchmark {
+
+    private static final int ROWS_PER_REGION = 100;
+    private static final TypeReference<Map<String, TourApiResponseDto>> RESPONSE_TYPE = new TypeReference<>() {};
+
+    @Param({"1", "2", "3", "4", "5"})
+    public int regions;
+
+    private TourApiService tourApiService;
+    private ObjectMapper searchObjectMapper;
+    private List<String> rawResponses;
+
+    @Setup
+    public void setUp() throws Exception {
+        // 애플리케이션과 같은 기본 설정 (알 수 없는 필드 무시 등)
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        // 외부 호출은 측정하지 않으므로 WebClient 없이 생성합니다.
+        tourApiService = new TourApiService(null, objectMapper);
+        // 키워드/축제 검색 서비스와 같은 설정
+        searchObjectMapper = objectMapper.copy()
+                .configure(DeserializationFeature.ACCEPT_EMPTY_STRING_AS_NULL_OBJECT, true);
+
+        Random random = new Random(42);
+        rawResponses = new ArrayList<>();
+        for (int region = 1; region <= regions; region++) {
+            rawResponses.add(objectMapper.writeValueAsString(response(objectMapper, random, String.valueOf(region))));
+        }
+    }
+
+    private static ObjectNode response(ObjectMapper objectMapper, Random random, String areaCode) {
+        ArrayNode items = objectMapper.createArrayNode();
+        for (int i = 0; i < ROWS_PER_REGION; i++) {
+            ObjectNode item = items.addObject();
+            item.put("contentid", String.valueOf(100000 + Integer.parseInt(areaCode) * 1000 + i));
+            item.put("contenttypeid", "12");
+            item.put("title", "관광지 " + areaCode + "-" + i);
+            item.put("addr1", "서울특별시 종로구 세종대로 " + random.nextInt(300));
+            item.put("addr2", i % 3 == 0 ? "" : "(세종로)");
+            item.put("areacode", areaCode);
+            item.put("sigungucode", String.valueOf(1 + random.nextInt(25)));
+            item.put("tel", i % 4 == 0 ? "" : "02-1234-" + (1000 + i));
+            item.put("firstimage", i % 5 == 0 ? "" : "http://tong.visitkorea.or.kr/cms/resource/" + i + "_image2_1.jpg");
+            item.put("firstimage2", i % 5 == 0 ? "" : "http://tong.visitkorea.or.kr/cms/resource/" + i + "_image3_1.jpg");
+            item.put("cat1", "A01");
+            item.put("cat2", "A0101");
+            item.put("cat3", "A01010100");
+            item.put("mapx", String.valueOf(126.8 + random.nextDouble() * 0.4));
+            item.put("mapy", String.valueOf(37.4 + random.nextDouble() * 0.3));
+            item.put("mlevel", "6");
+            item.put("readcount", String.valueOf(random.nextInt(100000)));
+            item.put("createdtime", "20240101000000");
+            item.put("modifiedtime", "20250101000000");
+        }
+
+        ObjectNode root = objectMapper.createObjectNode();
+        ObjectNode responseNode = root.putObject("response");
+        ObjectNode header = responseNode.putObject("header");
+        header.put("resultCode", "0000");
+        header.put("resultMsg", "OK");
+        ObjectNode body = responseNode.putObject("body");
+        body.putObject("items").set("item", items);
+        body.put("numOfRows", ROWS_PER_REGION);
+        body.put("pageNo", 1);
+        body.put("totalCount", 5000);
+        return root;
+    }
+
+    @Benchmark
+    public List<TourItemDto> parseCombineAndLimit() {
+        return tourApiService.parseCombineAndLimit(rawResponses, 100);
+    }
+
+    @Benchmark
+    public void deserialize(Blackhole blackhole) throws Exception {
+        for (String raw : rawResponses) {
+            blackhole.consume(searchObjectMapper.readValue(raw, RESPONSE_TYPE));
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.webserver.tour.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 해시태그 필터의 OR 정규식 생성 벤치마크 (태그 1 ~ 20개, 앞뒤 공백 포함 입력)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TourItemTagRegexBenchmark {
+
+    private static final String[] SAMPLE_TAGS = {"힐링", "바다", "산책", "야경", "카페", "전통", "캠핑", "맛집", "사진", "가족"};
+
+    @Param({"1", "5", "20"})
+    public int tagCount;
+
+    private List<String> tags;
+
+    @Setup
+    public void setUp() {
+        tags = new ArrayList<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(" " + SAMPLE_TAGS[i % SAMPLE_TAGS.length] + (i / SAMPLE_TAGS.length) + " ");
+        }
+    }
+
+    @Benchmark
+    public String buildTagRegex() {
+        return TourItemService.buildTagRegex(tags);
+    }
+}
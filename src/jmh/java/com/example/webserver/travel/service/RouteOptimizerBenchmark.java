@@ -0,0 +1,53 @@
+package com.example.webserver.travel.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 하루 일정 경로 최적화 벤치마크 (10 ~ 200개 장소, 서울 근교 범위의 무작위 좌표)
+ * - matrix: 하버사인 거리 행렬 생성 비용 (캐시 미스 시)
+ * - optimize: 최근접 이웃 + 2-opt (시간 예산 무제한, 수렴할 때까지)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class RouteOptimizerBenchmark {
+
+    @Param({"10", "25", "50", "100", "200"})
+    public int stops;
+
+    private double[] lat;
+    private double[] lon;
+    private double[][] distance;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        lat = new double[stops];
+        lon = new double[stops];
+        for (int i = 0; i < stops; i++) {
+            lat[i] = 37.4 + random.nextDouble() * 0.3;
+            lon[i] = 126.8 + random.nextDouble() * 0.4;
+        }
+        distance = RouteOptimizer.haversineMatrix(lat, lon);
+    }
+
+    @Benchmark
+    public double[][] matrix() {
+        return RouteOptimizer.haversineMatrix(lat, lon);
+    }
+
+    @Benchmark
+    public RouteOptimizer.Result optimize() {
+        return RouteOptimizer.optimize(distance, 0, Long.MAX_VALUE / 4);
+    }
+}
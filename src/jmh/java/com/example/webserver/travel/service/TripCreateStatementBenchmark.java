@@ -0,0 +1,129 @@
+package com.example.webserver.travel.service;
+
+import com.example.webserver.auth.entity.User;
+import com.example.webserver.review.entity.Comment;
+import com.example.webserver.review.entity.ReviewBoard;
+import com.example.webserver.travel.entity.Schedule;
+import com.example.webserver.travel.entity.Trip;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 여행 생성(일정 40개) 한 번에 Hibernate가 준비하는 SQL 문 수 측정 (H2 메모리 DB, PostgreSQL 모드)
+ *
+ * TripService.createTrip과 같은 엔티티 작업(작성자 프록시 참조 + 여행/일정 cascade 저장 + 커밋)을
+ * 애플리케이션과 같은 Hibernate 설정(시퀀스 pooled-lo, insert 정렬)으로 실행하고,
+ * 요청당 SQL 수 지표(http.server.requests.sql)와 같은 StatementInspector 훅으로 문장 수를 셉니다.
+ * - batchSize=0: JDBC 배치 없음 (IDENTITY 시절처럼 행마다 INSERT 1회)
+ * - batchSize=50: 현재 설정 (같은 INSERT를 배치 하나로 전송)
+ *
+ * 반복 1회 = 여행 생성 1회이며, statements 보조 지표는 측정 반복 전체의 합계입니다.
+ * 연산당 문장 수 = statements / 측정 반복 수. (시퀀스 호출은 50건마다 1회라 평균에 분산됨)
+ * 시간은 H2 기준이라 참고용입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TripCreateStatementBenchmark {
+
+    private static final int STOPS = 40;
+    private static final AtomicInteger PREPARED = new AtomicInteger();
+
+    @Param({"0", "50"})
+    public int batchSize;
+
+    private SessionFactory sessionFactory;
+    private Long userId;
+
+    /** 반복(여행 생성 1회)마다 준비된 SQL 문 수 */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Statements {
+        public int statements;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            statements = 0;
+        }
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Map<String, Object> settings = new HashMap<>();
+        settings.put(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:trip-bench-" + batchSize + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        settings.put(AvailableSettings.JAKARTA_JDBC_USER, "sa");
+        settings.put(AvailableSettings.HBM2DDL_AUTO, "create-drop");
+        // Spring Boot 기본값과 같은 snake_case 컬럼명
+        settings.put(AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName());
+        settings.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+        settings.put(AvailableSettings.ORDER_INSERTS, true);
+        settings.put(AvailableSettings.ORDER_UPDATES, true);
+        settings.put(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo");
+        settings.put(AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+            PREPARED.incrementAndGet();
+            return sql;
+        });
+
+        StandardServiceRegistry registry = new StandardServiceRegistryBuilder().applySettings(settings).build();
+        sessionFactory = new MetadataSources(registry)
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(ReviewBoard.class)
+                .addAnnotatedClass(Comment.class)
+                .addAnnotatedClass(Trip.class)
+                .addAnnotatedClass(Schedule.class)
+                .buildMetadata()
+                .buildSessionFactory();
+
+        User user = User.builder().loginUserId("bench").passwordHash("").nickname("벤치마크").build();
+        sessionFactory.inTransaction(session -> session.persist(user));
+        userId = user.getUserId();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public Long createTrip(Statements counter) {
+        int before = PREPARED.get();
+        Long tripId = sessionFactory.fromTransaction(this::persistTrip);
+        counter.statements = PREPARED.get() - before;
+        return tripId;
+    }
+
+    private Long persistTrip(Session session) {
+        // 작성자는 캐시된 PK로 프록시 참조만 만듭니다. (TripService.createTrip과 동일)
+        User user = session.getReference(User.class, userId);
+        Trip trip = Trip.createTrip("벤치마크 여행", LocalDate.of(2025, 5, 1), LocalDate.of(2025, 5, 7));
+        trip.setUser(user);
+        for (int i = 0; i < STOPS; i++) {
+            trip.addSchedule(Schedule.createSchedule(i / 6 + 1, i % 6, String.valueOf(126508 + i), "장소 " + i));
+        }
+        session.persist(trip);
+        return trip.getId();
+    }
+}
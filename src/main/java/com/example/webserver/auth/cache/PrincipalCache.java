@@ -0,0 +1,59 @@
+package com.example.webserver.auth.cache;
+
+import com.example.webserver.auth.event.UserChangedEvent;
+import com.example.webserver.auth.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 로그인 ID -> (회원 PK, 닉네임, 관리자 여부) 캐시.
+ * 글/댓글/여행 작성 등 인증된 쓰기 요청마다 반복되던 findByLoginUserId 조회를 없애고,
+ * 서비스는 캐시된 PK로 {@code getReferenceById}(프록시, 쿼리 없음)를 사용합니다.
+ * 닉네임/비밀번호 변경, 회원 삭제 이벤트를 트랜잭션 커밋 이후에 받아 무효화합니다.
+ *
+ * 무효화는 이벤트를 발행한 노드에만 적용됩니다. 다른 노드에서는 TTL이 지나야 반영되므로
+ * TTL을 짧게(기본 30초) 두어, 삭제/변경된 회원이 다른 노드에서 캐시로 남아 있는 시간을 그만큼으로 제한합니다.
+ */
+@Component
+public class PrincipalCache {
+
+    /** 캐시 항목: 회원 PK, 닉네임(응답 DTO용), 관리자 여부 */
+    public record Entry(Long userId, String nickname, boolean admin) {
+    }
+
+    private final Cache<String, Entry> cache;
+    private final UserRepository userRepository;
+
+    public PrincipalCache(UserRepository userRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${auth.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${auth.principal-cache.ttl:30s}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.principal");
+    }
+
+    /** 캐시에서 찾고, 없으면 DB에서 적재합니다. (없는/삭제 예약된 회원은 캐시하지 않고 empty) */
+    public Optional<Entry> get(String loginUserId) {
+        return Optional.ofNullable(cache.get(loginUserId, id -> userRepository.findPrincipalByLoginUserId(id)
+                .map(view -> new Entry(view.getUserId(), view.getNickname(), view.getIsAdmin()))
+                .orElse(null)));
+    }
+
+    @TransactionalEventListener
+    public void onUserChanged(UserChangedEvent event) {
+        cache.invalidate(event.getLoginUserId());
+    }
+}
@@ -1,12 +1,18 @@
 package com.example.webserver.auth.controller;
 
+import com.example.webserver.auth.dto.AdminUserSearchRequestDto;
+import com.example.webserver.auth.dto.UserExportFormat;
 import com.example.webserver.auth.dto.UserResponseDto;
 import com.example.webserver.auth.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/admin") // ✨ 주소가 /api/v1/admin 으로 시작합니다!
@@ -15,11 +21,36 @@ public class AdminController {
 
     private final UserService userService;
 
-    // GET /api/v1/admin/users
+    // GET /api/v1/admin/users?joinedFrom=2025-01-01&joinedTo=2025-06-30&admin=false&nicknamePrefix=여행&page=0&size=50
     @GetMapping("/users")
     // @PreAuthorize("hasRole('ADMIN')") // SecurityConfig에서 이미 막았으면 생략 가능하지만, 이중 보안으로 둬도 됨
-    public ResponseEntity<List<UserResponseDto>> getAllUsers() {
-        return ResponseEntity.ok(userService.getAllUsers());
+    public ResponseEntity<Page<UserResponseDto>> getUsers(
+            @ModelAttribute AdminUserSearchRequestDto condition,
+            @PageableDefault(size = 50) Pageable pageable
+    ) {
+        return ResponseEntity.ok(userService.searchUsers(condition, pageable));
+    }
+
+    // GET /api/v1/admin/users/export?format=csv|ndjson (목록과 같은 필터, 전체 회원을 스트리밍)
+    @GetMapping("/users/export")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @ModelAttribute AdminUserSearchRequestDto condition,
+            @RequestParam(defaultValue = "csv") String format
+    ) {
+        UserExportFormat exportFormat;
+        try {
+            exportFormat = UserExportFormat.from(format);
+        } catch (IllegalArgumentException e) {
+            // 지원하지 않는 형식
+            return ResponseEntity.badRequest().build();
+        }
+
+        // 응답 본문은 별도 스레드에서 쓰이며, 트랜잭션(DB 커서)은 exportUsers 안에서 열고 닫습니다.
+        StreamingResponseBody body = out -> userService.exportUsers(condition, exportFormat, out);
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users." + exportFormat.getExtension() + "\"")
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .body(body);
     }
 
     // DELETE /api/v1/admin/delete-user/{userId}
@@ -5,16 +5,21 @@ import com.example.webserver.auth.dto.TokenDto;
 import com.example.webserver.auth.dto.UserRequestDto;
 import com.example.webserver.auth.dto.UserResponseDto;
 import com.example.webserver.auth.service.AuthService;
+import com.example.webserver.auth.service.NameAvailabilityService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import jakarta.validation.Valid;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @RestController
 @RequestMapping("/api/v1/auth")
 @RequiredArgsConstructor
 public class AuthController {
     private final AuthService authService;
+    private final NameAvailabilityService nameAvailabilityService;
 
     // POST /api/v1/auth/signup : 회원가입 (permitAll() 설정)
     @PostMapping("/signup")
@@ -23,10 +28,33 @@ public class AuthController {
         return ResponseEntity.ok(response);
     }
 
+    // GET /api/v1/auth/availability?loginUserId=..&nickname=.. : 로그인 ID/닉네임 사용 가능 여부 (permitAll() 설정)
+    // 전달한 항목만 응답에 포함합니다. 예) {"loginUserId": true, "nickname": false}
+    @GetMapping("/availability")
+    public ResponseEntity<Map<String, Boolean>> availability(@RequestParam(required = false) String loginUserId,
+                                                             @RequestParam(required = false) String nickname) {
+        if (isBlank(loginUserId) && isBlank(nickname)) {
+            return ResponseEntity.badRequest().build(); // 둘 중 하나는 필요
+        }
+        Map<String, Boolean> result = new LinkedHashMap<>();
+        if (!isBlank(loginUserId)) {
+            result.put("loginUserId", nameAvailabilityService.isLoginUserIdAvailable(loginUserId));
+        }
+        if (!isBlank(nickname)) {
+            result.put("nickname", nameAvailabilityService.isNicknameAvailable(nickname));
+        }
+        return ResponseEntity.ok(result);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
     // POST /api/v1/auth/login : 로그인 (Access/Refresh Token 발급, permitAll() 설정)
     @PostMapping("/login")
-    public ResponseEntity<TokenDto> login(@RequestBody @Valid LoginRequestDto loginRequest) {
-        TokenDto tokenDto = authService.login(loginRequest);
+    public ResponseEntity<TokenDto> login(@RequestBody @Valid LoginRequestDto loginRequest,
+                                          @RequestHeader(value = "User-Agent", required = false) String userAgent) {
+        TokenDto tokenDto = authService.login(loginRequest, userAgent);
         return ResponseEntity.ok(tokenDto);
     }
 
@@ -37,12 +65,14 @@ public class AuthController {
         return ResponseEntity.ok(tokenDto);
     }
 
-    // POST /api/v1/auth/logout : 로그아웃 (본인 Refresh Token 삭제, authenticated() 설정)
+    // POST /api/v1/auth/logout : 로그아웃 (본인 리프레시 세션 삭제, authenticated() 설정)
+    // 요청 본문에 refreshToken이 있으면 해당 기기만, 없으면 모든 기기에서 로그아웃합니다.
     @PostMapping("/logout")
-    public ResponseEntity<Void> logout(@RequestHeader("Authorization") String accessTokenHeader) {
+    public ResponseEntity<Void> logout(@RequestHeader("Authorization") String accessTokenHeader,
+                                       @RequestBody(required = false) TokenDto tokenRequestDto) {
         // Access Token에서 사용자 정보를 추출하여 로그아웃 처리
         String accessToken = accessTokenHeader.substring(7);
-        authService.logout(accessToken);
+        authService.logout(accessToken, tokenRequestDto != null ? tokenRequestDto.getRefreshToken() : null);
         return ResponseEntity.noContent().build(); // 204 No Content
     }
 
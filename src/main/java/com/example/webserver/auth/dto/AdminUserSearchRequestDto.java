@@ -0,0 +1,22 @@
+package com.example.webserver.auth.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * 관리자 회원 목록/내보내기 조건 (모든 항목 선택 사항)
+ * GET /api/v1/admin/users?joinedFrom=2025-01-01&joinedTo=2025-06-30&admin=false&nicknamePrefix=여행&page=0&size=50
+ */
+@Getter
+@Setter
+public class AdminUserSearchRequestDto {
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate joinedFrom;   // 가입일 시작 (포함)
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate joinedTo;     // 가입일 끝 (포함)
+    private Boolean admin;          // 관리자 여부
+    private String nicknamePrefix;  // 닉네임 접두어
+}
@@ -22,6 +22,9 @@ public class TokenDto {
     // (선택 사항) 액세스 토큰 만료 시간 (밀리초)
     private Long accessTokenExpiresIn;
 
+    // 리프레시 토큰 만료 시각 (밀리초)
+    private Long refreshTokenExpiresIn;
+
     /**
      * 사용자의 권한 정보 (예: "ROLE_USER" 또는 "ROLE_ADMIN").
      * 클라이언트가 UI 표시 및 접근 제어에 사용합니다.
@@ -0,0 +1,30 @@
+package com.example.webserver.auth.dto;
+
+import java.util.Locale;
+
+/** 관리자 회원 내보내기 형식 */
+public enum UserExportFormat {
+    CSV("text/csv", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    UserExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /** @throws IllegalArgumentException 지원하지 않는 형식 */
+    public static UserExportFormat from(String value) {
+        return UserExportFormat.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.webserver.auth.dto;
 
 import com.example.webserver.auth.entity.User;
+import com.example.webserver.auth.repository.AdminUserRow;
 import lombok.*;
 import java.time.LocalDateTime;
 
@@ -14,6 +15,7 @@ public class UserResponseDto {
     private String loginUserId;
     private String nickname;
     private LocalDateTime joinDate;
+    private boolean isAdmin;
 
     /** User 엔티티를 DTO로 변환하는 정적 팩토리 메서드 */
     public static UserResponseDto of(User user) {
@@ -22,6 +24,18 @@ public class UserResponseDto {
                 .loginUserId(user.getLoginUserId())
                 .nickname(user.getNickname())
                 .joinDate(user.getJoinDate())
+                .isAdmin(user.isAdmin())
+                .build();
+    }
+
+    /** 관리자 회원 목록 행을 DTO로 변환합니다. */
+    public static UserResponseDto of(AdminUserRow row) {
+        return UserResponseDto.builder()
+                .userId(row.userId())
+                .loginUserId(row.loginUserId())
+                .nickname(row.nickname())
+                .joinDate(row.joinDate())
+                .isAdmin(row.admin())
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.example.webserver.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 세션. (기기별 로그인 1건)
+ * 토큰 원문 대신 SHA-256 해시를 저장하며, 재발급 시 해시를 새 토큰의 것으로 교체(rotation)합니다.
+ * 한 회원이 여러 기기에서 동시에 로그인할 수 있습니다.
+ */
+@Entity
+@Getter
+@Table(name = "refresh_session")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RefreshSession {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_session_seq_generator")
+    @SequenceGenerator(name = "refresh_session_seq_generator", sequenceName = "refresh_session_seq", allocationSize = 50)
+    @Column(name = "session_id")
+    private Long sessionId;
+
+    // 리프레시 토큰의 SHA-256 (16진수 64자, UNIQUE 인덱스)
+    @Column(name = "token_hash", length = 64, nullable = false, unique = true)
+    private String tokenHash;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    // 로그인한 기기 (User-Agent)
+    @Column(name = "device", length = 255)
+    private String device;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_used_at", nullable = false)
+    private LocalDateTime lastUsedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public static RefreshSession create(User user, String tokenHash, String device, LocalDateTime expiresAt) {
+        RefreshSession session = new RefreshSession();
+        session.user = user;
+        session.tokenHash = tokenHash;
+        session.device = device;
+        session.createdAt = LocalDateTime.now();
+        session.lastUsedAt = session.createdAt;
+        session.expiresAt = expiresAt;
+        return session;
+    }
+
+    public boolean isExpired() {
+        return !expiresAt.isAfter(LocalDateTime.now());
+    }
+}
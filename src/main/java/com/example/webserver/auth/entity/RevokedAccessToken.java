@@ -0,0 +1,33 @@
+package com.example.webserver.auth.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 폐기된(로그아웃된) 액세스 토큰. 노드 간 폐기 목록 동기화용 변경 피드로 사용합니다.
+ * revoked_at은 DB 시각으로 기록되며, 각 노드는 이 값을 커서로 새 행만 읽어갑니다.
+ */
+@Entity
+@Getter
+@Table(name = "revoked_access_token")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevokedAccessToken {
+
+    @Id
+    @Column(name = "token_id", length = 36)
+    private String tokenId;
+
+    // 토큰의 exp (이후에는 토큰 자체가 만료되므로 목록에서 제거)
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(name = "revoked_at", nullable = false)
+    private LocalDateTime revokedAt;
+}
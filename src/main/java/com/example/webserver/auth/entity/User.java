@@ -26,7 +26,7 @@ public class User implements UserDetails {
     @SequenceGenerator(
             name = "users_seq_generator",
             sequenceName = "users_user_id_seq",
-            allocationSize = 1
+            allocationSize = 50 // pooled-lo: 가입 50건마다 시퀀스 호출 1회
     )
     @Column(name = "user_id")
     private Long userId;
@@ -46,8 +46,9 @@ public class User implements UserDetails {
     @Column(name = "is_admin", nullable = false)
     private boolean isAdmin;
 
-    @Column(name = "refresh_token", length = 512)
-    private String refreshToken;
+    // 삭제 예약 시각 (리뷰가 많은 회원은 즉시 숨김 처리 후 백그라운드에서 삭제합니다.)
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
 
     // ✨ [추가된 부분] 회원이 쓴 리뷰들과 연결 (탈퇴 시 자동 삭제 설정)
     // mappedBy = "user": ReviewBoard 엔티티 안에 있는 변수 이름이 'user'여야 합니다.
@@ -63,7 +64,6 @@ public class User implements UserDetails {
         this.nickname = nickname;
         this.isAdmin = isAdmin;
         this.joinDate = LocalDateTime.now();
-        this.refreshToken = null;
     }
 
     // --- 엔티티 상태 변경 메서드 ---
@@ -76,12 +76,13 @@ public class User implements UserDetails {
         this.passwordHash = newPasswordHash;
     }
 
-    public void updateRefreshToken(String refreshToken) {
-        this.refreshToken = refreshToken;
+    /** 삭제 예약: 로그인/토큰 재발급을 막고 백그라운드 삭제 대상이 됩니다. */
+    public void markDeleted() {
+        this.deletedAt = LocalDateTime.now();
     }
 
-    public void deleteRefreshToken() {
-        this.refreshToken = null;
+    public boolean isDeleted() {
+        return this.deletedAt != null;
     }
 
     // --- Spring Security UserDetails 구현 ---
@@ -109,5 +110,5 @@ public class User implements UserDetails {
     public boolean isCredentialsNonExpired() { return true; }
 
     @Override
-    public boolean isEnabled() { return true; }
+    public boolean isEnabled() { return !isDeleted(); } // 삭제 예약된 계정은 로그인 불가
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.example.webserver.auth.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 액세스 토큰이 폐기되었을 때 발행되는 애플리케이션 이벤트
+ * (폐기 목록은 트랜잭션 커밋 이후에 이 이벤트를 받아 메모리에 반영합니다.)
+ */
+@Getter
+@RequiredArgsConstructor
+public class AccessTokenRevokedEvent {
+
+    private final String tokenId;
+    private final long expiresAtMillis;
+}
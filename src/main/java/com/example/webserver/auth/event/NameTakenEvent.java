@@ -0,0 +1,16 @@
+package com.example.webserver.auth.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원가입/닉네임 변경으로 로그인 ID나 닉네임이 새로 사용되었을 때 발행되는 애플리케이션 이벤트
+ * (이름 사용 가능 여부 필터는 트랜잭션 커밋 이후에 이 이벤트를 받아 이름을 추가합니다. 값이 없으면 null)
+ */
+@Getter
+@RequiredArgsConstructor
+public class NameTakenEvent {
+
+    private final String loginUserId;
+    private final String nickname;
+}
@@ -0,0 +1,15 @@
+package com.example.webserver.auth.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 회원 정보(닉네임/비밀번호)가 바뀌거나 회원이 삭제되었을 때 발행되는 애플리케이션 이벤트
+ * (로그인 사용자 캐시는 트랜잭션 커밋 이후에 이 이벤트를 받아 무효화합니다.)
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserChangedEvent {
+
+    private final String loginUserId;
+}
@@ -0,0 +1,15 @@
+package com.example.webserver.auth.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리뷰가 많은 회원이 삭제 요청으로 숨김 처리(deleted_at)되었을 때 발행되는 애플리케이션 이벤트
+ * (리뷰 읽기 캐시는 트랜잭션 커밋 이후에 이 이벤트를 받아 숨겨진 회원의 리뷰를 캐시에서 내립니다.)
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserHiddenEvent {
+
+    private final Long userId;
+}
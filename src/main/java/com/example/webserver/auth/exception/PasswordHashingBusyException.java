@@ -0,0 +1,11 @@
+package com.example.webserver.auth.exception;
+
+/**
+ * 비밀번호 해시 작업 큐가 가득 찼거나, 대기 시간(hash-timeout) 안에 해시가 끝나지 않았을 때 발생합니다. (503 Service Unavailable)
+ */
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException() {
+        super("로그인 요청이 많아 잠시 후 다시 시도해 주세요.");
+    }
+}
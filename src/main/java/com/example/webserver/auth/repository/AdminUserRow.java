@@ -0,0 +1,9 @@
+package com.example.webserver.auth.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 관리자 회원 목록/내보내기 행 (JPQL 생성자 표현식으로 조회하므로 영속성 컨텍스트에 쌓이지 않습니다.)
+ */
+public record AdminUserRow(Long userId, String loginUserId, String nickname, LocalDateTime joinDate, boolean admin) {
+}
@@ -0,0 +1,57 @@
+package com.example.webserver.auth.repository;
+
+import com.example.webserver.auth.entity.RefreshSession;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RefreshSessionRepository extends JpaRepository<RefreshSession, Long> {
+
+    /** 토큰 해시로 세션과 회원을 한 번에 조회합니다. (UNIQUE 인덱스 단건 조회, 토큰 재발급에 사용) */
+    @Query("SELECT s FROM RefreshSession s JOIN FETCH s.user WHERE s.tokenHash = :tokenHash")
+    Optional<RefreshSession> findWithUserByTokenHash(@Param("tokenHash") String tokenHash);
+
+    /**
+     * 세션의 토큰 해시를 새 토큰의 것으로 교체합니다. (rotation)
+     * 이전 해시가 일치할 때만 갱신하므로, 같은 리프레시 토큰으로 동시에 재발급하면 한 요청만 성공합니다.
+     * @return 갱신된 행 수 (0이면 이미 다른 요청이 교체함)
+     */
+    @Modifying
+    @Query("UPDATE RefreshSession s SET s.tokenHash = :newHash, s.expiresAt = :expiresAt, s.lastUsedAt = :now " +
+            "WHERE s.sessionId = :sessionId AND s.tokenHash = :oldHash")
+    int rotate(@Param("sessionId") Long sessionId,
+               @Param("oldHash") String oldHash,
+               @Param("newHash") String newHash,
+               @Param("expiresAt") LocalDateTime expiresAt,
+               @Param("now") LocalDateTime now);
+
+    /** 회원의 세션 ID 목록 (최근 사용 순, 기기 수 상한 초과분 정리에 사용) */
+    @Query("SELECT s.sessionId FROM RefreshSession s WHERE s.user.userId = :userId ORDER BY s.lastUsedAt DESC")
+    List<Long> findIdsByUserIdOrderByLastUsedAtDesc(@Param("userId") Long userId);
+
+    /** 특정 기기(토큰)의 세션만 삭제합니다. (로그아웃) */
+    @Modifying
+    @Query("DELETE FROM RefreshSession s WHERE s.user.userId = :userId AND s.tokenHash = :tokenHash")
+    int deleteByUserIdAndTokenHash(@Param("userId") Long userId, @Param("tokenHash") String tokenHash);
+
+    /** 회원의 모든 세션을 삭제합니다. (전체 로그아웃, 회원 삭제) */
+    @Modifying
+    @Query("DELETE FROM RefreshSession s WHERE s.user.userId = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM RefreshSession s WHERE s.sessionId IN :sessionIds")
+    int deleteAllByIdIn(@Param("sessionIds") List<Long> sessionIds);
+
+    /** 만료된 세션을 삭제합니다. (expires_at 인덱스 범위 삭제) */
+    @Modifying
+    @Query("DELETE FROM RefreshSession s WHERE s.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,32 @@
+package com.example.webserver.auth.repository;
+
+import com.example.webserver.auth.entity.RevokedAccessToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedAccessTokenRepository extends JpaRepository<RevokedAccessToken, String> {
+
+    /** 폐기 기록을 추가합니다. revoked_at은 DB 시각(now())으로 기록하여 노드 간 시계 차이의 영향을 받지 않습니다. */
+    @Modifying
+    @Query(value = "INSERT INTO revoked_access_token (token_id, expires_at, revoked_at) " +
+            "VALUES (:tokenId, :expiresAt, now()) ON CONFLICT (token_id) DO NOTHING", nativeQuery = true)
+    int insertIgnoringDuplicate(@Param("tokenId") String tokenId, @Param("expiresAt") LocalDateTime expiresAt);
+
+    /** 변경 피드: since 이후에 폐기된, 아직 만료되지 않은 토큰 (since가 없으면 전체) */
+    @Query("SELECT r FROM RevokedAccessToken r WHERE r.revokedAt >= :since AND r.expiresAt > :now")
+    List<RevokedAccessToken> findRevokedSince(@Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
+
+    @Query("SELECT r FROM RevokedAccessToken r WHERE r.expiresAt > :now")
+    List<RevokedAccessToken> findAllNotExpired(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("DELETE FROM RevokedAccessToken r WHERE r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,11 @@
+package com.example.webserver.auth.repository;
+
+/**
+ * 로그인 ID/닉네임만 담은 프로젝션 (가용성 Bloom filter 재구성용)
+ */
+public interface UserNameView {
+
+    String getLoginUserId();
+
+    String getNickname();
+}
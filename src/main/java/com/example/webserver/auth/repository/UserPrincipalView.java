@@ -0,0 +1,13 @@
+package com.example.webserver.auth.repository;
+
+/**
+ * 로그인 사용자 캐시용 최소 정보 프로젝션 (User 엔티티와 리뷰 컬렉션을 로딩하지 않습니다.)
+ */
+public interface UserPrincipalView {
+
+    Long getUserId();
+
+    String getNickname();
+
+    boolean getIsAdmin();
+}
@@ -2,11 +2,19 @@ package com.example.webserver.auth.repository;
 
 import com.example.webserver.auth.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserSearchRepository {
 
     /** 로그인 ID가 존재하는지 확인 (회원가입 시 중복 확인에 사용) */
     boolean existsByLoginUserId(String loginUserId);
@@ -14,9 +22,35 @@ public interface UserRepository extends JpaRepository<User, Long> {
     /** 로그인 ID로 사용자 엔티티를 조회합니다. (인증 및 정보 조회에 사용) */
     Optional<User> findByLoginUserId(String loginUserId);
 
-    /** Refresh Token으로 사용자 엔티티를 조회합니다. (토큰 재발급에 사용) */
-    Optional<User> findByRefreshToken(String refreshToken);
+    /** 로그인 ID로 PK/닉네임/관리자 여부만 조회합니다. (삭제 예약된 회원 제외, 로그인 사용자 캐시 적재용) */
+    @Query("SELECT u.userId AS userId, u.nickname AS nickname, u.isAdmin AS isAdmin " +
+            "FROM User u WHERE u.loginUserId = :loginUserId AND u.deletedAt IS NULL")
+    Optional<UserPrincipalView> findPrincipalByLoginUserId(@Param("loginUserId") String loginUserId);
 
     /** 닉네임이 이미 존재하는지 확인합니다. (회원가입 및 닉네임 변경에 사용) */
     boolean existsByNickname(String nickname);
-}
\ No newline at end of file
+
+    /**
+     * 모든 회원의 로그인 ID와 닉네임을 스트리밍합니다. (가용성 Bloom filter 재구성용, 삭제 예약 회원 포함)
+     * 읽기 트랜잭션 안에서 호출하고, 사용 후 반드시 close 해야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u.loginUserId AS loginUserId, u.nickname AS nickname FROM User u")
+    Stream<UserNameView> streamAllNames();
+
+    /** 전체 회원 수 (Bloom filter 크기 산정용) */
+    @Query("SELECT count(u) FROM User u")
+    long countAll();
+
+    /** 삭제 표시된(숨김 처리된) 사용자 ID 목록 (백그라운드 삭제 작업 대상) */
+    @Query("SELECT u.userId FROM User u WHERE u.deletedAt IS NOT NULL ORDER BY u.deletedAt")
+    List<Long> findIdsByDeletedAtIsNotNull();
+
+    /** 엔티티(및 리뷰 컬렉션)를 로딩하지 않고 사용자 레코드를 삭제합니다. */
+    @Modifying
+    @Query("DELETE FROM User u WHERE u.userId = :userId")
+    int deleteByIdDirectly(@Param("userId") Long userId);
+}
@@ -0,0 +1,25 @@
+package com.example.webserver.auth.repository;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+/**
+ * 관리자 회원 목록(필터 + 페이지) / 내보내기(스트리밍) 전용 커스텀 리포지토리
+ * 모든 조건은 선택 사항이며, null이면 해당 조건을 적용하지 않습니다. (삭제 예약된 회원은 항상 제외)
+ */
+public interface UserSearchRepository {
+
+    /** 조건에 맞는 회원을 userId 순으로 페이지 조회합니다. (정렬은 userId 고정) */
+    Page<AdminUserRow> searchUsers(LocalDateTime joinedFrom, LocalDateTime joinedBefore, Boolean admin,
+                                   String nicknamePrefix, Pageable pageable);
+
+    /**
+     * 조건에 맞는 회원 전체를 userId 순으로 스트리밍합니다. (DB 커서 + fetch size, 메모리 사용량 일정)
+     * 읽기 트랜잭션 안에서 호출하고, 사용 후 반드시 close 해야 합니다.
+     */
+    Stream<AdminUserRow> streamUsers(LocalDateTime joinedFrom, LocalDateTime joinedBefore, Boolean admin,
+                                     String nicknamePrefix);
+}
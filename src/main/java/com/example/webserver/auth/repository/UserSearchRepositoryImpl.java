@@ -0,0 +1,91 @@
+package com.example.webserver.auth.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 주어진 조건만 WHERE 절에 포함하는 동적 JPQL로 회원을 조회합니다.
+ * 엔티티 대신 생성자 표현식(AdminUserRow)으로 필요한 컬럼만 읽어 리뷰 컬렉션 지연 로딩이 일어나지 않습니다.
+ * 사용되는 인덱스 (V11 마이그레이션): join_date btree, nickname text_pattern_ops (접두어 LIKE)
+ */
+@RequiredArgsConstructor
+public class UserSearchRepositoryImpl implements UserSearchRepository {
+
+    private static final int STREAM_FETCH_SIZE = 1000;
+    private static final String SELECT_ROW = "SELECT new com.example.webserver.auth.repository.AdminUserRow(" +
+            "u.userId, u.loginUserId, u.nickname, u.joinDate, u.isAdmin) FROM User u";
+
+    private final EntityManager em;
+
+    @Override
+    public Page<AdminUserRow> searchUsers(LocalDateTime joinedFrom, LocalDateTime joinedBefore, Boolean admin,
+                                          String nicknamePrefix, Pageable pageable) {
+        Map<String, Object> params = new HashMap<>();
+        String where = where(joinedFrom, joinedBefore, admin, nicknamePrefix, params);
+
+        TypedQuery<AdminUserRow> query = em.createQuery(SELECT_ROW + where + " ORDER BY u.userId", AdminUserRow.class)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize());
+        params.forEach(query::setParameter);
+        List<AdminUserRow> content = query.getResultList();
+
+        // 첫 페이지가 한 페이지 크기보다 작으면 전체 개수를 알 수 있으므로 count 쿼리를 생략합니다.
+        if (pageable.getOffset() == 0 && content.size() < pageable.getPageSize()) {
+            return new PageImpl<>(content, pageable, content.size());
+        }
+        TypedQuery<Long> countQuery = em.createQuery("SELECT count(u) FROM User u" + where, Long.class);
+        params.forEach(countQuery::setParameter);
+        return new PageImpl<>(content, pageable, countQuery.getSingleResult());
+    }
+
+    @Override
+    public Stream<AdminUserRow> streamUsers(LocalDateTime joinedFrom, LocalDateTime joinedBefore, Boolean admin,
+                                            String nicknamePrefix) {
+        Map<String, Object> params = new HashMap<>();
+        String where = where(joinedFrom, joinedBefore, admin, nicknamePrefix, params);
+
+        // PostgreSQL 드라이버는 트랜잭션 안(autocommit=false)에서 fetch size가 있을 때만 서버 커서로 나누어 읽습니다.
+        TypedQuery<AdminUserRow> query = em.createQuery(SELECT_ROW + where + " ORDER BY u.userId", AdminUserRow.class)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true);
+        params.forEach(query::setParameter);
+        return query.getResultStream();
+    }
+
+    private static String where(LocalDateTime joinedFrom, LocalDateTime joinedBefore, Boolean admin,
+                                String nicknamePrefix, Map<String, Object> params) {
+        StringBuilder where = new StringBuilder(" WHERE u.deletedAt IS NULL");
+        if (joinedFrom != null) {
+            where.append(" AND u.joinDate >= :joinedFrom");
+            params.put("joinedFrom", joinedFrom);
+        }
+        if (joinedBefore != null) {
+            where.append(" AND u.joinDate < :joinedBefore");
+            params.put("joinedBefore", joinedBefore);
+        }
+        if (admin != null) {
+            where.append(" AND u.isAdmin = :admin");
+            params.put("admin", admin);
+        }
+        if (nicknamePrefix != null && !nicknamePrefix.isEmpty()) {
+            where.append(" AND u.nickname LIKE :nicknamePattern ESCAPE '\\'");
+            params.put("nicknamePattern", escapeLike(nicknamePrefix) + "%");
+        }
+        return where.toString();
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
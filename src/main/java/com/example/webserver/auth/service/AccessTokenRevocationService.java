@@ -0,0 +1,137 @@
+package com.example.webserver.auth.service;
+
+import com.example.webserver.auth.entity.RevokedAccessToken;
+import com.example.webserver.auth.event.AccessTokenRevokedEvent;
+import com.example.webserver.auth.repository.RevokedAccessTokenRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 액세스 토큰 폐기 목록. (로그아웃한 토큰이 만료 전까지 계속 쓰이는 것을 막습니다.)
+ *
+ * 요청마다 DB를 조회하지 않도록 jti -> 만료 시각을 메모리에 두고 O(1)로 확인하며,
+ * 각 항목은 토큰의 exp 시각에 자동으로 제거됩니다. (그 이후에는 토큰 검증 자체가 실패)
+ * 다른 노드에서 폐기한 토큰은 revoked_access_token 테이블을 변경 피드로 주기적으로 읽어 반영합니다.
+ * 커서는 마지막으로 읽은 revoked_at(DB 시각)에서 overlap만큼 앞당겨, 늦게 커밋된 행도 놓치지 않습니다.
+ */
+@Slf4j
+@Service
+public class AccessTokenRevocationService {
+
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration pollOverlap;
+
+    // jti -> 토큰 만료 시각(epoch millis)
+    private final Cache<String, Long> revoked = Caffeine.newBuilder()
+            .expireAfter(new Expiry<String, Long>() {
+                @Override
+                public long expireAfterCreate(String key, Long expiresAtMillis, long currentTime) {
+                    long remainingMillis = expiresAtMillis - System.currentTimeMillis();
+                    return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                }
+
+                @Override
+                public long expireAfterUpdate(String key, Long expiresAtMillis, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+
+                @Override
+                public long expireAfterRead(String key, Long expiresAtMillis, long currentTime, long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .build();
+
+    // 변경 피드 커서 (마지막으로 읽은 revoked_at, null이면 아직 전체 적재 전)
+    private volatile LocalDateTime cursor;
+
+    public AccessTokenRevocationService(RevokedAccessTokenRepository revokedAccessTokenRepository,
+                                        ApplicationEventPublisher eventPublisher,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${auth.revocation.poll-overlap:10s}") Duration pollOverlap) {
+        this.revokedAccessTokenRepository = revokedAccessTokenRepository;
+        this.eventPublisher = eventPublisher;
+        this.pollOverlap = pollOverlap;
+        Gauge.builder("auth.revoked.tokens", revoked, Cache::estimatedSize)
+                .description("메모리 폐기 목록에 있는 액세스 토큰 수")
+                .register(meterRegistry);
+    }
+
+    /** 폐기된 토큰인지 확인합니다. (JwtAuthenticationFilter에서 요청마다 호출, jti가 없는 토큰은 false) */
+    public boolean isRevoked(String tokenId) {
+        return tokenId != null && revoked.getIfPresent(tokenId) != null;
+    }
+
+    /**
+     * 토큰을 폐기합니다. 이 노드에는 커밋 직후 반영되고, 다른 노드는 다음 변경 피드 조회 때 반영합니다.
+     * (롤백되면 어느 노드에도 반영되지 않습니다.)
+     */
+    @Transactional
+    public void revoke(String tokenId, long expiresAtMillis) {
+        if (tokenId == null || expiresAtMillis <= System.currentTimeMillis()) {
+            return; // jti 도입 이전 토큰이거나 이미 만료된 토큰
+        }
+        revokedAccessTokenRepository.insertIgnoringDuplicate(tokenId, toLocalDateTime(expiresAtMillis));
+        eventPublisher.publishEvent(new AccessTokenRevokedEvent(tokenId, expiresAtMillis));
+    }
+
+    @TransactionalEventListener
+    public void onRevoked(AccessTokenRevokedEvent event) {
+        revoked.put(event.getTokenId(), event.getExpiresAtMillis());
+    }
+
+    @Scheduled(fixedDelayString = "${auth.revocation.poll-interval-ms:2000}")
+    @Transactional(readOnly = true)
+    public void poll() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = cursor;
+        List<RevokedAccessToken> rows = since == null
+                ? revokedAccessTokenRepository.findAllNotExpired(now)
+                : revokedAccessTokenRepository.findRevokedSince(since.minus(pollOverlap), now);
+
+        LocalDateTime latest = since;
+        for (RevokedAccessToken row : rows) {
+            revoked.asMap().putIfAbsent(row.getTokenId(), toEpochMillis(row.getExpiresAt()));
+            if (latest == null || row.getRevokedAt().isAfter(latest)) {
+                latest = row.getRevokedAt();
+            }
+        }
+        // 커서는 DB 시각(revoked_at)으로만 옮깁니다. 아직 읽은 행이 없으면 다음에도 유효한 행 전체를 읽습니다.
+        cursor = latest;
+        if (!rows.isEmpty()) {
+            log.debug("Applied {} revoked access tokens from change feed", rows.size());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${auth.revocation.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        revokedAccessTokenRepository.deleteExpired(LocalDateTime.now());
+    }
+
+    private static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -6,20 +6,25 @@ import com.example.webserver.auth.dto.TokenDto;
 
 import com.example.webserver.auth.dto.UserRequestDto;
 import com.example.webserver.auth.dto.UserResponseDto;
+import com.example.webserver.auth.entity.RefreshSession;
 import com.example.webserver.auth.entity.User;
 import com.example.webserver.auth.repository.UserRepository;
 import com.example.webserver.auth.exception.DuplicateUsernameException;
+import com.example.webserver.auth.event.NameTakenEvent;
 import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -29,22 +34,33 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
+    private final UserPurgeService userPurgeService;
+    private final RefreshSessionService refreshSessionService;
+    private final AccessTokenRevocationService accessTokenRevocationService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
     private static final Logger log = LoggerFactory.getLogger(AuthService.class);
 
     // ----------------------------------------------------
     // 1. 회원가입 메서드 (Signup)
     // ----------------------------------------------------
-    @Transactional
+    // 비밀번호 해시(대기 포함 최대 hash-timeout)는 트랜잭션 밖에서 계산하고, 저장만 짧은 트랜잭션으로 실행합니다.
+    // (해시를 기다리는 동안 DB 커넥션을 붙잡지 않도록)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public UserResponseDto signup(UserRequestDto userRequestDto) {
         if (userRepository.existsByLoginUserId(userRequestDto.getLoginUserId())) {
             throw new DuplicateUsernameException("이미 사용 중인 사용자 이름입니다.");
         }
 
+        User user = userRequestDto.toUser(passwordEncoder);
         try {
-            User user = userRequestDto.toUser(passwordEncoder);
-            User savedUser = userRepository.save(user);
-            return UserResponseDto.of(savedUser);
-
+            return transactionTemplate.execute(status -> {
+                // 동시 가입으로 인한 유니크 제약 위반이 커밋 시점이 아니라 여기서 잡히도록 바로 flush 합니다.
+                User savedUser = userRepository.saveAndFlush(user);
+                // 커밋 이후 이름 사용 가능 여부 필터에 추가
+                eventPublisher.publishEvent(new NameTakenEvent(savedUser.getLoginUserId(), savedUser.getNickname()));
+                return UserResponseDto.of(savedUser);
+            });
         } catch (DataIntegrityViolationException e) {
             throw new DuplicateUsernameException("이미 사용 중인 사용자 이름입니다.");
         }
@@ -53,8 +69,9 @@ public class AuthService {
     // ----------------------------------------------------
     // 2. 로그인 메서드 (Login)
     // ----------------------------------------------------
-    @Transactional
-    public TokenDto login(LoginRequestDto loginRequest) {
+    // 비밀번호 검증은 트랜잭션 밖에서 실행합니다. 회원 조회, 해시 재생성 저장, 세션 생성은 각각 짧은 트랜잭션입니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TokenDto login(LoginRequestDto loginRequest, String userAgent) {
 
         // 1. ID/Password 기반으로 인증 토큰 객체 생성
         UsernamePasswordAuthenticationToken authenticationToken = new UsernamePasswordAuthenticationToken(
@@ -68,12 +85,11 @@ public class AuthService {
         // 3. 액세스/리프레시 토큰 2종 생성 (JwtTokenProvider에서 role이 DTO에 포함됨)
         TokenDto tokenDto = jwtTokenProvider.generateTokenDto(authentication);
 
-        // 4. DB 저장: Refresh Token만 해당 사용자 엔티티에 저장
+        // 4. DB 저장: 기기별 리프레시 세션 생성 (다른 기기의 로그인은 유지됨)
         User user = userRepository.findByLoginUserId(loginRequest.getLoginUserId())
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다.")); // 2단계에서 이미 찾았지만 안전을 위해 다시 조회
 
-        user.updateRefreshToken(tokenDto.getRefreshToken());
-        userRepository.save(user);
+        refreshSessionService.start(user, tokenDto, userAgent);
 
         return tokenDto; // ⬅️ role 정보가 포함된 TokenDto 반환
     }
@@ -96,18 +112,18 @@ public class AuthService {
             throw new RuntimeException("Refresh Token이 유효하지 않거나 만료되었습니다. 재로그인이 필요합니다.");
         }
 
-        // 2. DB 일치성 검증 (핵심 보안 단계)
-        User user = userRepository.findByRefreshToken(clientRefreshToken)
+        // 2. DB 일치성 검증 (핵심 보안 단계): 토큰 해시로 세션 + 회원을 한 번에 조회
+        RefreshSession session = refreshSessionService.find(clientRefreshToken)
                 .orElseThrow(() -> new RuntimeException("DB에 저장된 Refresh Token과 일치하지 않습니다. 재로그인이 필요합니다."));
+        User user = session.getUser();
+        if (user.isDeleted()) {
+            throw new RuntimeException("삭제 예약된 계정입니다. 재로그인이 필요합니다.");
+        }
 
-        // 3. 새 Access Token 생성
-        // RT의 Claims를 파싱하여 사용자 정보(Subject)를 얻고 Authentication 객체 재생성
-        Claims claims = jwtTokenProvider.getClaims(clientRefreshToken);
-
-        // 사용자 ID와 권한 정보로 Authentication 객체를 새로 만듭니다.
-        // UserDetails 구현체 User 객체를 사용하여 Authorities를 가져오는 로직 필요
+        // 3. 새 Access/Refresh Token 생성
+        // 리프레시 토큰에는 사용자 정보가 없으므로 세션의 회원 정보로 Authentication 객체를 만듭니다.
         Authentication authentication = new UsernamePasswordAuthenticationToken(
-                claims.getSubject(), // loginUserId
+                user.getLoginUserId(),
                 null, // 비밀번호는 필요 없음
                 user.getAuthorities() // DB에서 가져온 User 객체의 권한 사용
         );
@@ -115,9 +131,10 @@ public class AuthService {
         TokenDto newTokenDto = jwtTokenProvider.generateTokenDto(authentication);
         // 이때 newTokenDto에는 이미 role 정보가 포함되어 있습니다.
 
-        // (선택적) Refresh Token Rotation 전략: 새로운 RT를 발급하고 DB 업데이트
-        // user.updateRefreshToken(newTokenDto.getRefreshToken());
-        // userRepository.save(user);
+        // 4. Refresh Token Rotation: 세션의 토큰 해시를 새 토큰으로 교체 (사용한 토큰은 재사용 불가)
+        if (!refreshSessionService.rotate(session, newTokenDto)) {
+            throw new RuntimeException("이미 사용된 Refresh Token입니다. 재로그인이 필요합니다.");
+        }
 
         return newTokenDto;
     }
@@ -126,25 +143,31 @@ public class AuthService {
     // ✨ 4. 로그아웃 메서드 (Logout)
     // ----------------------------------------------------
     /**
-     * 로그아웃 요청을 처리합니다. Access Token으로 사용자를 식별하고 DB의 Refresh Token을 삭제합니다.
+     * 로그아웃 요청을 처리합니다. Access Token으로 사용자를 식별하고 리프레시 세션을 삭제합니다.
      * @param accessToken 로그아웃 요청 시 받은 Access Token
+     * @param refreshToken 현재 기기의 Refresh Token (없으면 모든 기기에서 로그아웃)
      */
     @Transactional
-    public void logout(String accessToken) {
+    public void logout(String accessToken, String refreshToken) {
 
         // 1. Access Token에서 사용자 ID (loginUserId) 추출 (AT가 만료되었어도 Claims 추출 가능)
         Claims claims = jwtTokenProvider.getClaims(accessToken);
         String loginUserId = claims.getSubject();
 
-        // 2. DB에서 사용자 조회 및 Refresh Token 삭제 (NULL 처리)
+        // 2. DB에서 사용자 조회 및 리프레시 세션 삭제
         User user = userRepository.findByLoginUserId(loginUserId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
 
-        user.deleteRefreshToken();
-        userRepository.save(user);
+        if (refreshToken != null && !refreshToken.isBlank()) {
+            refreshSessionService.end(user.getUserId(), refreshToken);
+        } else {
+            refreshSessionService.endAll(user.getUserId());
+        }
+
+        // 3. 현재 Access Token 폐기 (남은 만료 시간 동안 해당 토큰 사용 차단)
+        revokeAccessToken(claims);
 
         log.info("USER LOGOUT SUCCESS: User '{}' successfully revoked Refresh Token.", loginUserId);
-        // (선택적) Access Token 블랙리스트 처리 로직 추가 (남은 AT 만료 시간 동안 해당 토큰 사용 차단)
     }
 
     @Transactional
@@ -158,9 +181,21 @@ public class AuthService {
         User user = userRepository.findByLoginUserId(loginUserId)
                 .orElseThrow(() -> new RuntimeException("삭제할 사용자를 찾을 수 없습니다."));
 
-        userRepository.delete(user); // JPA Repository의 delete 메서드 사용
+        // 리뷰/댓글/여행 일정은 bulk DELETE로 삭제 (리뷰가 많으면 숨김 처리 후 백그라운드 삭제)
+        boolean purged = userPurgeService.removeUser(user);
+        revokeAccessToken(claims);
 
         // (선택적) 로그 기록
-        log.warn("USER ACCOUNT DELETED: User '{}' has been permanently deleted.", loginUserId);
+        if (purged) {
+            log.warn("USER ACCOUNT DELETED: User '{}' has been permanently deleted.", loginUserId);
+        } else {
+            log.warn("USER ACCOUNT HIDDEN: User '{}' is scheduled for background purge.", loginUserId);
+        }
+    }
+
+    private void revokeAccessToken(Claims claims) {
+        if (claims.getExpiration() != null) {
+            accessTokenRevocationService.revoke(claims.getId(), claims.getExpiration().getTime());
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,25 +1,41 @@
 package com.example.webserver.auth.service;
 
+import com.example.webserver.auth.entity.User;
 import com.example.webserver.auth.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.slf4j.Logger;
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
     private static final Logger logger = LoggerFactory.getLogger(CustomUserDetailsService.class);
     @Override
     public UserDetails loadUserByUsername(String loginUserId) throws UsernameNotFoundException {
 
-        logger.info(String.valueOf(5));
         // DB에서 사용자 ID를 찾아 UserDetails(User 엔티티) 객체를 반환
         return userRepository.findByLoginUserId(loginUserId)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + loginUserId));
     }
-}
\ No newline at end of file
+
+    /**
+     * 로그인 성공 시 저장된 해시의 BCrypt cost가 현재 설정보다 낮으면 호출됩니다. (DaoAuthenticationProvider)
+     * 새 cost로 만든 해시로 교체하여, 별도 마이그레이션 없이 점진적으로 해시를 강화합니다.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails userDetails, String newPasswordHash) {
+        User user = userRepository.findByLoginUserId(userDetails.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userDetails.getUsername()));
+        user.updatePassword(newPasswordHash);
+        logger.debug("Upgraded password hash of user {}", user.getLoginUserId());
+        return user;
+    }
+}
@@ -0,0 +1,159 @@
+package com.example.webserver.auth.service;
+
+import com.example.webserver.auth.event.NameTakenEvent;
+import com.example.webserver.auth.repository.UserNameView;
+import com.example.webserver.auth.repository.UserRepository;
+import com.example.webserver.common.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.stream.Stream;
+
+/**
+ * 로그인 ID/닉네임 사용 가능 여부를 확인합니다. (회원가입/닉네임 변경 화면의 입력 중 실시간 확인 API 전용)
+ *
+ * 사용 중인 로그인 ID와 닉네임을 각각 Bloom filter에 담아 두고,
+ * 필터에 없으면(확실히 미사용) DB를 조회하지 않고 바로 사용 가능으로 응답합니다.
+ * 필터에 있으면(사용 중이거나 오탐) 기존 인덱스 조회(existsBy...)로 확인합니다.
+ *
+ * 필터는 서버 시작 시와 주기적으로 전체 재구성하고, 회원가입/닉네임 변경이 커밋된 뒤 바로 추가합니다.
+ * Bloom filter는 삭제를 지원하지 않으므로 탈퇴/변경 전 이름은 다음 재구성까지 남지만, 이는 DB 조회로 넘어가는 오탐입니다.
+ * 반대로 다른 서버 노드에서 가입한 이름은 그 노드의 재구성 전까지 필터에 없어 "사용 가능"으로 잘못 응답할 수 있으므로
+ * 이 결과는 안내용입니다. 가입/닉네임 변경은 필터를 쓰지 않고 항상 DB(existsBy... + 유니크 제약)로 중복을 확인합니다.
+ */
+@Slf4j
+@Service
+public class NameAvailabilityService {
+
+    private final UserRepository userRepository;
+    private final double falsePositiveRate;
+    private final double headroom;
+
+    private volatile Filters current;
+    // 재구성 중에 추가된 이름이 새 필터에서 빠지지 않도록 재구성 대상 필터에도 함께 넣습니다.
+    private volatile Filters building;
+
+    private final Counter filterNegative;
+    private final Counter databaseAvailable;
+    private final Counter databaseTaken;
+
+    public NameAvailabilityService(UserRepository userRepository,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${auth.availability.false-positive-rate:0.01}") double falsePositiveRate,
+                                   @Value("${auth.availability.headroom:2.0}") double headroom) {
+        this.userRepository = userRepository;
+        this.falsePositiveRate = falsePositiveRate;
+        this.headroom = headroom;
+
+        this.filterNegative = checkCounter(meterRegistry, "filter_negative");
+        this.databaseAvailable = checkCounter(meterRegistry, "db_available");
+        this.databaseTaken = checkCounter(meterRegistry, "db_taken");
+        Gauge.builder("auth.availability.filter.bytes", this,
+                        service -> service.current != null ? service.current.sizeInBytes() : 0)
+                .register(meterRegistry);
+    }
+
+    private static Counter checkCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("auth.availability.checks")
+                .description("이름 사용 가능 여부 확인 결과 (filter_negative는 DB 조회 없이 응답)")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // -----------------------------------------------------------------
+    // 조회
+    // -----------------------------------------------------------------
+
+    // 트랜잭션을 열지 않습니다. (필터가 바로 답하면 커넥션을 빌리지 않고, DB 확인은 리포지토리 호출 동안만 커넥션 사용)
+    public boolean isLoginUserIdAvailable(String loginUserId) {
+        Filters filters = current;
+        if (filters != null && !filters.loginUserIds.mightContain(loginUserId)) {
+            filterNegative.increment();
+            return true;
+        }
+        return record(!userRepository.existsByLoginUserId(loginUserId));
+    }
+
+    public boolean isNicknameAvailable(String nickname) {
+        Filters filters = current;
+        if (filters != null && !filters.nicknames.mightContain(nickname)) {
+            filterNegative.increment();
+            return true;
+        }
+        return record(!userRepository.existsByNickname(nickname));
+    }
+
+    private boolean record(boolean available) {
+        (available ? databaseAvailable : databaseTaken).increment();
+        return available;
+    }
+
+    // -----------------------------------------------------------------
+    // 갱신
+    // -----------------------------------------------------------------
+
+    /**
+     * 커밋된 새 로그인 ID/닉네임을 필터에 추가합니다. (null은 무시)
+     * 커밋 이후에 추가하므로, 재구성 시작 전에 추가된 이름은 재구성 스트림의 스냅샷에도 이미 보입니다.
+     */
+    @TransactionalEventListener
+    public void onNameTaken(NameTakenEvent event) {
+        add(current, event.getLoginUserId(), event.getNickname());
+        add(building, event.getLoginUserId(), event.getNickname());
+    }
+
+    private static void add(Filters filters, String loginUserId, String nickname) {
+        if (filters == null) {
+            return;
+        }
+        if (loginUserId != null) {
+            filters.loginUserIds.put(loginUserId);
+        }
+        if (nickname != null) {
+            filters.nicknames.put(nickname);
+        }
+    }
+
+    /**
+     * 전체 회원의 로그인 ID/닉네임으로 필터를 새로 만들어 교체합니다.
+     * (삭제 예약된 회원도 이름을 점유하고 있으므로 포함, 탈퇴/변경으로 남은 비트는 여기서 정리됨)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${auth.availability.rebuild-interval-ms:1800000}",
+            initialDelayString = "${auth.availability.rebuild-interval-ms:1800000}")
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        long started = System.nanoTime();
+        long expected = (long) Math.ceil(Math.max(1000, userRepository.countAll()) * headroom);
+        Filters next = new Filters(BloomFilter.create(expected, falsePositiveRate),
+                BloomFilter.create(expected, falsePositiveRate));
+        building = next;
+        long count = 0;
+        try (Stream<UserNameView> names = userRepository.streamAllNames()) {
+            for (UserNameView name : (Iterable<UserNameView>) names::iterator) {
+                add(next, name.getLoginUserId(), name.getNickname());
+                count++;
+            }
+            current = next;
+        } finally {
+            building = null;
+        }
+        log.info("Rebuilt name availability filters from {} users in {} ms ({} bytes)",
+                count, (System.nanoTime() - started) / 1_000_000, next.sizeInBytes());
+    }
+
+    private record Filters(BloomFilter loginUserIds, BloomFilter nicknames) {
+        long sizeInBytes() {
+            return loginUserIds.sizeInBytes() + nicknames.sizeInBytes();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.webserver.auth.service;
+
+import com.example.webserver.auth.dto.TokenDto;
+import com.example.webserver.auth.entity.RefreshSession;
+import com.example.webserver.auth.entity.User;
+import com.example.webserver.auth.repository.RefreshSessionRepository;
+import com.example.webserver.config.jwt.JwtTokenProvider;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 리프레시 토큰 세션(기기별 로그인) 관리.
+ * 세션은 토큰의 SHA-256 해시로 조회하며, 재발급마다 새 토큰 해시로 교체(rotation)되어
+ * 한 번 사용한 리프레시 토큰은 다시 쓸 수 없습니다.
+ */
+@Slf4j
+@Service
+public class RefreshSessionService {
+
+    private static final int DEVICE_MAX_LENGTH = 255;
+
+    private final RefreshSessionRepository refreshSessionRepository;
+    private final int maxSessionsPerUser;
+
+    public RefreshSessionService(RefreshSessionRepository refreshSessionRepository,
+                                 @Value("${auth.refresh-session.max-per-user:10}") int maxSessionsPerUser) {
+        this.refreshSessionRepository = refreshSessionRepository;
+        this.maxSessionsPerUser = maxSessionsPerUser;
+    }
+
+    /**
+     * 로그인 시 새 세션을 만듭니다. 기기 수 상한을 넘으면 가장 오래 사용하지 않은 세션부터 삭제합니다.
+     */
+    @Transactional
+    public void start(User user, TokenDto tokens, String userAgent) {
+        refreshSessionRepository.save(RefreshSession.create(
+                user,
+                JwtTokenProvider.sha256Hex(tokens.getRefreshToken()),
+                truncate(userAgent),
+                toLocalDateTime(tokens.getRefreshTokenExpiresIn())));
+
+        List<Long> sessionIds = refreshSessionRepository.findIdsByUserIdOrderByLastUsedAtDesc(user.getUserId());
+        if (sessionIds.size() > maxSessionsPerUser) {
+            refreshSessionRepository.deleteAllByIdIn(sessionIds.subList(maxSessionsPerUser, sessionIds.size()));
+        }
+    }
+
+    /** 리프레시 토큰에 해당하는 유효한 세션을 회원과 함께 조회합니다. (인덱스 단건 조회 1회) */
+    public Optional<RefreshSession> find(String refreshToken) {
+        return refreshSessionRepository.findWithUserByTokenHash(JwtTokenProvider.sha256Hex(refreshToken))
+                .filter(session -> !session.isExpired());
+    }
+
+    /**
+     * 세션의 토큰을 새로 발급한 토큰으로 교체합니다.
+     * @return 교체 성공 여부 (false면 같은 토큰으로 이미 재발급됨)
+     */
+    @Transactional
+    public boolean rotate(RefreshSession session, TokenDto newTokens) {
+        return refreshSessionRepository.rotate(
+                session.getSessionId(),
+                session.getTokenHash(),
+                JwtTokenProvider.sha256Hex(newTokens.getRefreshToken()),
+                toLocalDateTime(newTokens.getRefreshTokenExpiresIn()),
+                LocalDateTime.now()) == 1;
+    }
+
+    /** 해당 리프레시 토큰의 세션만 종료합니다. (현재 기기 로그아웃) */
+    @Transactional
+    public void end(Long userId, String refreshToken) {
+        refreshSessionRepository.deleteByUserIdAndTokenHash(userId, JwtTokenProvider.sha256Hex(refreshToken));
+    }
+
+    /** 회원의 모든 세션을 종료합니다. (전체 기기 로그아웃, 회원 삭제) */
+    @Transactional
+    public void endAll(Long userId) {
+        refreshSessionRepository.deleteAllByUserId(userId);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.refresh-session.purge-interval-ms:3600000}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = refreshSessionRepository.deleteExpired(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("Purged {} expired refresh sessions", deleted);
+        }
+    }
+
+    private static String truncate(String userAgent) {
+        if (userAgent == null || userAgent.isBlank()) {
+            return null;
+        }
+        return userAgent.length() > DEVICE_MAX_LENGTH ? userAgent.substring(0, DEVICE_MAX_LENGTH) : userAgent;
+    }
+
+    private static LocalDateTime toLocalDateTime(Long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
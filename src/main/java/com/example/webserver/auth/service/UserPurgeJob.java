@@ -0,0 +1,38 @@
+package com.example.webserver.auth.service;
+
+import com.example.webserver.auth.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 삭제 예약(deleted_at)된 회원을 주기적으로 정리하는 백그라운드 작업.
+ * 리뷰 청크마다 {@link UserPurgeService}의 개별 트랜잭션으로 커밋하므로,
+ * 중간에 실패하거나 서버가 재시작되어도 다음 주기에 남은 부분부터 이어서 삭제합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserPurgeJob {
+
+    private final UserRepository userRepository;
+    private final UserPurgeService userPurgeService;
+
+    @Scheduled(fixedDelayString = "${user.purge.interval-ms:60000}")
+    public void purgeDeletedUsers() {
+        for (Long userId : userRepository.findIdsByDeletedAtIsNotNull()) {
+            try {
+                int purgedReviews = 0;
+                int deleted;
+                while ((deleted = userPurgeService.deleteReviewChunk(userId)) > 0) {
+                    purgedReviews += deleted;
+                }
+                userPurgeService.deleteRemainingAndUser(userId);
+                log.info("Purged user {} ({} reviews)", userId, purgedReviews);
+            } catch (RuntimeException e) {
+                log.warn("회원 백그라운드 삭제 실패 (userId: {}): {}", userId, e.getMessage());
+            }
+        }
+    }
+}
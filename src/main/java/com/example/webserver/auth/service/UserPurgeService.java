@@ -0,0 +1,135 @@
+package com.example.webserver.auth.service;
+
+import com.example.webserver.auth.entity.User;
+import com.example.webserver.auth.event.UserChangedEvent;
+import com.example.webserver.auth.event.UserHiddenEvent;
+import com.example.webserver.auth.repository.UserRepository;
+import com.example.webserver.review.event.ReviewChangedEvent;
+import com.example.webserver.review.repository.CommentRepository;
+import com.example.webserver.review.repository.ReviewBoardRepository;
+import com.example.webserver.review.service.ReviewSpotStatsService;
+import com.example.webserver.travel.event.TripChangedEvent;
+import com.example.webserver.travel.repository.TripRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 회원 삭제 시 작성한 리뷰/댓글/여행 일정을 집합 단위(bulk DELETE)로 지웁니다.
+ * 엔티티를 영속성 컨텍스트에 올려 한 건씩 지우는 JPA cascade 대신, 리뷰 ID를 청크 단위로 묶어
+ * "댓글 -> 리뷰" 순서로 DELETE ... WHERE review_id IN (...) 을 실행합니다.
+ *
+ * 리뷰 수가 기준치 이하인 회원은 호출한 트랜잭션 안에서 바로 삭제하고,
+ * 그보다 많은 회원은 계정만 즉시 숨김 처리(deleted_at)한 뒤 {@link UserPurgeJob}이 청크마다
+ * 별도 트랜잭션으로 나누어 삭제합니다. (긴 트랜잭션/락 점유 방지)
+ */
+@Slf4j
+@Service
+public class UserPurgeService {
+
+    private final UserRepository userRepository;
+    private final ReviewBoardRepository reviewBoardRepository;
+    private final CommentRepository commentRepository;
+    private final TripRepository tripRepository;
+    private final ReviewSpotStatsService reviewSpotStatsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RefreshSessionService refreshSessionService;
+    private final long inlineReviewThreshold;
+    private final int chunkSize;
+
+    public UserPurgeService(UserRepository userRepository,
+                            ReviewBoardRepository reviewBoardRepository,
+                            CommentRepository commentRepository,
+                            TripRepository tripRepository,
+                            ReviewSpotStatsService reviewSpotStatsService,
+                            ApplicationEventPublisher eventPublisher,
+                            RefreshSessionService refreshSessionService,
+                            @Value("${user.purge.inline-review-threshold:500}") long inlineReviewThreshold,
+                            @Value("${user.purge.chunk-size:500}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.reviewBoardRepository = reviewBoardRepository;
+        this.commentRepository = commentRepository;
+        this.tripRepository = tripRepository;
+        this.reviewSpotStatsService = reviewSpotStatsService;
+        this.eventPublisher = eventPublisher;
+        this.refreshSessionService = refreshSessionService;
+        this.inlineReviewThreshold = inlineReviewThreshold;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 회원 삭제 요청을 처리합니다.
+     * @return true: 즉시 삭제 완료, false: 숨김 처리 후 백그라운드 삭제 예약
+     */
+    @Transactional
+    public boolean removeUser(User user) {
+        // 모든 기기의 리프레시 세션을 먼저 종료합니다. (숨김 처리된 계정의 토큰 재발급 차단)
+        refreshSessionService.endAll(user.getUserId());
+        // 커밋 이후 로그인 사용자 캐시에서 제거 (숨김 처리된 회원도 더 이상 글을 쓸 수 없도록)
+        eventPublisher.publishEvent(new UserChangedEvent(user.getLoginUserId()));
+        long reviewCount = reviewBoardRepository.countByUser_UserId(user.getUserId());
+        if (reviewCount > inlineReviewThreshold) {
+            user.markDeleted();
+            // 커밋 이후 리뷰 읽기 캐시에서 이 회원의 리뷰를 내립니다. (조회 쿼리는 숨김 회원의 리뷰를 제외)
+            eventPublisher.publishEvent(new UserHiddenEvent(user.getUserId()));
+            log.info("User {} has {} reviews; hidden now and scheduled for background purge", user.getUserId(), reviewCount);
+            return false;
+        }
+        purgeNow(user.getUserId());
+        return true;
+    }
+
+    /** 현재 트랜잭션 안에서 회원의 모든 데이터를 삭제합니다. */
+    @Transactional
+    public void purgeNow(Long userId) {
+        while (deleteReviewChunk(userId) > 0) {
+            // 남은 리뷰가 없을 때까지 청크 단위로 삭제
+        }
+        deleteRemainingAndUser(userId);
+    }
+
+    /**
+     * 회원의 리뷰를 최대 chunkSize 건 삭제합니다. (댓글 -> 리뷰 순서)
+     * 트랜잭션 밖에서 호출되면 청크마다 개별 트랜잭션으로 커밋됩니다.
+     * @return 이번에 삭제한 리뷰 수 (0이면 더 이상 남은 리뷰가 없음)
+     */
+    @Transactional
+    public int deleteReviewChunk(Long userId) {
+        List<Long> reviewIds = reviewBoardRepository.findIdsByUserId(userId, PageRequest.of(0, chunkSize));
+        if (reviewIds.isEmpty()) {
+            return 0;
+        }
+        List<String> spotContentIds = reviewBoardRepository.findDistinctSpotContentIdsByIdIn(reviewIds);
+
+        commentRepository.deleteAllByReviewIdIn(reviewIds);
+        reviewBoardRepository.deleteAllByIdIn(reviewIds);
+        reviewSpotStatsService.recompute(spotContentIds);
+
+        // 커밋 이후 캐시 무효화 등을 위해 삭제된 리뷰마다 이벤트를 발행합니다.
+        reviewIds.forEach(id -> eventPublisher.publishEvent(new ReviewChangedEvent(id, ReviewChangedEvent.Type.DELETED)));
+        return reviewIds.size();
+    }
+
+    /** 다른 리뷰에 단 댓글, 여행 일정, 사용자 레코드를 삭제합니다. (리뷰 삭제가 끝난 뒤 호출) */
+    @Transactional
+    public void deleteRemainingAndUser(Long userId) {
+        List<Long> commentedReviewIds = commentRepository.findDistinctReviewIdsByUserId(userId);
+        if (!commentedReviewIds.isEmpty()) {
+            commentRepository.deleteAllByUserId(userId);
+            // 댓글 목록이 바뀐 리뷰들의 ETag가 달라지도록 댓글 버전을 올립니다.
+            reviewBoardRepository.bumpCommentVersions(commentedReviewIds, LocalDateTime.now());
+        }
+
+        List<Long> tripIds = tripRepository.findIdsByUserId(userId);
+        tripRepository.deleteSchedulesByUserId(userId);
+        tripRepository.deleteAllByUserId(userId);
+        tripIds.forEach(id -> eventPublisher.publishEvent(new TripChangedEvent(id, TripChangedEvent.Type.DELETED)));
+        userRepository.deleteByIdDirectly(userId);
+    }
+}
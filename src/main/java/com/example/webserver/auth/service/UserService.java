@@ -1,21 +1,45 @@
 package com.example.webserver.auth.service;
 
+import com.example.webserver.auth.dto.AdminUserSearchRequestDto;
+import com.example.webserver.auth.dto.UserExportFormat;
 import com.example.webserver.auth.dto.UserResponseDto;
 import com.example.webserver.auth.entity.User;
+import com.example.webserver.auth.event.NameTakenEvent;
+import com.example.webserver.auth.event.UserChangedEvent;
+import com.example.webserver.auth.repository.AdminUserRow;
 import com.example.webserver.auth.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.util.List;
-import java.util.stream.Collectors;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @Service
 public class UserService {
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserPurgeService userPurgeService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
 
     // --- 마이페이지 기능 ---
 
@@ -37,10 +61,22 @@ public class UserService {
             throw new RuntimeException("이미 사용 중인 닉네임입니다.");
         }
         user.updateNickname(newNickname);
+        try {
+            // 동시 변경으로 인한 유니크 제약 위반이 커밋 시점의 500이 아니라 아래 오류로 응답되도록 바로 flush 합니다.
+            userRepository.flush();
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException("이미 사용 중인 닉네임입니다.");
+        }
+        // 커밋 이후 이름 사용 가능 여부 필터에 추가
+        eventPublisher.publishEvent(new NameTakenEvent(null, newNickname));
+        // 커밋 이후 로그인 사용자 캐시(닉네임) 무효화
+        eventPublisher.publishEvent(new UserChangedEvent(loginUserId));
     }
 
-    /** 사용자 본인의 비밀번호를 변경합니다. */
-    @Transactional
+    /**
+     * 사용자 본인의 비밀번호를 변경합니다.
+     * 비밀번호 검증/해시는 트랜잭션 밖에서 실행하고, 변경 저장만 짧은 트랜잭션으로 실행합니다.
+     */
     public void updatePassword(String loginUserId, String currentPassword, String newPassword) {
         User user = userRepository.findByLoginUserId(loginUserId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
@@ -52,26 +88,81 @@ public class UserService {
 
         // 새 비밀번호 암호화 후 업데이트
         String newPasswordHash = passwordEncoder.encode(newPassword);
-        user.updatePassword(newPasswordHash);
+        transactionTemplate.executeWithoutResult(status -> {
+            User managed = userRepository.findByLoginUserId(loginUserId)
+                    .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다."));
+            managed.updatePassword(newPasswordHash);
+            eventPublisher.publishEvent(new UserChangedEvent(loginUserId));
+        });
     }
 
     // --- 관리자 기능 ---
 
-    /** [관리자 전용] 모든 사용자 목록을 조회합니다. */
+    /** [관리자 전용] 조건(가입일/관리자 여부/닉네임 접두어)에 맞는 회원을 페이지 단위로 조회합니다. (삭제 예약된 회원 제외) */
     @Transactional(readOnly = true)
-    public List<UserResponseDto> getAllUsers() {
-        List<User> users = userRepository.findAll();
-        return users.stream()
-                .map(UserResponseDto::of)
-                .collect(Collectors.toList());
+    public Page<UserResponseDto> searchUsers(AdminUserSearchRequestDto condition, Pageable pageable) {
+        return userRepository.searchUsers(joinedFrom(condition), joinedBefore(condition), condition.getAdmin(),
+                        condition.getNicknamePrefix(), pageable)
+                .map(UserResponseDto::of);
+    }
+
+    /**
+     * [관리자 전용] 조건에 맞는 회원 전체를 CSV 또는 NDJSON으로 내보냅니다.
+     * DB 커서로 한 행씩 읽어 바로 쓰므로 회원 수와 관계없이 메모리 사용량이 일정합니다.
+     */
+    @Transactional(readOnly = true)
+    public void exportUsers(AdminUserSearchRequestDto condition, UserExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
+        try (Stream<AdminUserRow> rows = userRepository.streamUsers(joinedFrom(condition), joinedBefore(condition),
+                condition.getAdmin(), condition.getNicknamePrefix())) {
+            if (format == UserExportFormat.CSV) {
+                writer.write("userId,loginUserId,nickname,joinDate,isAdmin\n");
+            }
+            Iterator<AdminUserRow> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                AdminUserRow row = iterator.next();
+                if (format == UserExportFormat.CSV) {
+                    writer.write(row.userId() + "," + csv(row.loginUserId()) + "," + csv(row.nickname()) + ","
+                            + row.joinDate() + "," + row.admin() + "\n");
+                } else {
+                    writer.write(objectMapper.writeValueAsString(UserResponseDto.of(row)));
+                    writer.write('\n');
+                }
+            }
+        }
+        writer.flush();
+    }
+
+    private static LocalDateTime joinedFrom(AdminUserSearchRequestDto condition) {
+        return condition.getJoinedFrom() != null ? condition.getJoinedFrom().atStartOfDay() : null;
+    }
+
+    // joinedTo 당일까지 포함하도록 다음 날 0시 미만으로 조회합니다.
+    private static LocalDateTime joinedBefore(AdminUserSearchRequestDto condition) {
+        return condition.getJoinedTo() != null ? condition.getJoinedTo().plusDays(1).atStartOfDay() : null;
+    }
+
+    // CSV 필드: 쉼표/따옴표/줄바꿈은 따옴표로 감싸고, 스프레드시트 수식으로 해석될 수 있는 값은 ' 를 붙입니다.
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        String escaped = value;
+        if (!escaped.isEmpty() && "=+-@".indexOf(escaped.charAt(0)) >= 0) {
+            escaped = "'" + escaped;
+        }
+        if (escaped.contains(",") || escaped.contains("\"") || escaped.contains("\n") || escaped.contains("\r")) {
+            escaped = "\"" + escaped.replace("\"", "\"\"") + "\"";
+        }
+        return escaped;
     }
 
     /** [관리자 전용] 특정 사용자를 강제 탈퇴 시킵니다. */
     @Transactional
     public void deleteUserByAdmin(Long userId) {
-        if (!userRepository.existsById(userId)) {
-            throw new RuntimeException("삭제할 사용자를 찾을 수 없습니다.");
-        }
-        userRepository.deleteById(userId); // DB에서 사용자 레코드 삭제
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("삭제할 사용자를 찾을 수 없습니다."));
+        // 리뷰/댓글/여행 일정은 bulk DELETE로 삭제 (리뷰가 많으면 숨김 처리 후 백그라운드 삭제)
+        userPurgeService.removeUser(user);
     }
-}
\ No newline at end of file
+}
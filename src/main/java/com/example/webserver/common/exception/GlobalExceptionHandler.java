@@ -1,6 +1,9 @@
 package com.example.webserver.common.exception; // 같은 exception 패키지에 위치한다고 가정
 
 import com.example.webserver.auth.exception.AuthorizationException;
+import com.example.webserver.auth.exception.PasswordHashingBusyException;
+import com.example.webserver.travel.exception.TripVersionConflictException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -22,6 +25,28 @@ public class GlobalExceptionHandler {
                 .body(Map.of("error", "Forbidden", "message", ex.getMessage()));
     }
 
+    /**
+     * 여행 동시 수정 충돌 (409 Conflict) 예외 처리
+     * 클라이언트가 최신 버전 기준으로 다시 적용할 수 있도록 현재 버전을 함께 반환합니다.
+     */
+    @ExceptionHandler(TripVersionConflictException.class)
+    public ResponseEntity<Map<String, Object>> handleTripVersionConflict(TripVersionConflictException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT) // HTTP 409
+                .body(Map.of("error", "Conflict", "message", ex.getMessage(),
+                        "tripId", ex.getTripId(), "currentVersion", ex.getCurrentVersion()));
+    }
+
+    /**
+     * 비밀번호 해시 작업 포화 (503 Service Unavailable) 예외 처리
+     * 요청 스레드를 붙잡아 두지 않고 바로 거절하며, 클라이언트에게 재시도 시점을 알려줍니다.
+     */
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<Map<String, String>> handlePasswordHashingBusy(PasswordHashingBusyException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE) // HTTP 503
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(Map.of("error", "Service Unavailable", "message", ex.getMessage()));
+    }
+
     /**
      * 리소스를 찾을 수 없음 (404 Not Found) 예외 처리
      */
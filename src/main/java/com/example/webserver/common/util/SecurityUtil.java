@@ -0,0 +1,33 @@
+package com.example.webserver.common.util;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * SecurityContext(JWT 필터가 채운 인증 정보)에서 현재 사용자 정보를 읽는 유틸리티
+ */
+public final class SecurityUtil {
+
+    public static final String ROLE_ADMIN = "ROLE_ADMIN";
+
+    private SecurityUtil() {
+    }
+
+    /**
+     * 현재 인증된 사용자가 관리자(ROLE_ADMIN)인지 확인합니다.
+     * 권한은 JWT의 auth 클레임에서 복원된 값이므로 DB 조회가 필요 없습니다.
+     */
+    public static boolean isCurrentUserAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null) {
+            return false;
+        }
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if (ROLE_ADMIN.equals(authority.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
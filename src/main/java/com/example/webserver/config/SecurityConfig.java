@@ -1,7 +1,13 @@
 package com.example.webserver.config;
 
+import com.example.webserver.auth.service.AccessTokenRevocationService;
 import com.example.webserver.config.jwt.JwtAuthenticationFilter;
 import com.example.webserver.config.jwt.JwtTokenProvider;
+import com.example.webserver.config.ratelimit.RateLimitFilter;
+import com.example.webserver.config.ratelimit.RateLimitProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -16,16 +22,30 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
 
+import java.time.Duration;
+
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(RateLimitProperties.class)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final AccessTokenRevocationService accessTokenRevocationService;
+    private final RateLimitProperties rateLimitProperties;
+    private final MeterRegistry meterRegistry;
 
+    /**
+     * BCrypt 해시/검증은 전용 스레드 풀(크기/큐/대기 시간 제한)에서 실행합니다.
+     * cost(strength)를 올리면 기존 해시는 다음 로그인 성공 시 새 cost로 재해시됩니다. (CustomUserDetailsService)
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${auth.password.bcrypt-strength:10}") int strength,
+                                           @Value("${auth.password.hash-threads:0}") int threads,
+                                           @Value("${auth.password.hash-queue-capacity:64}") int queueCapacity,
+                                           @Value("${auth.password.hash-timeout:5s}") Duration timeout) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), meterRegistry, poolSize, queueCapacity, timeout);
     }
 
     @Bean
@@ -46,21 +66,31 @@ public class SecurityConfig {
                         .requestMatchers(HttpMethod.POST, "/api/v1/auth/signup", "/api/v1/auth/login", "/api/v1/auth/reissue").permitAll()
 
                         // 1. 기존 여행지 조회 API (GET 요청) 허용
-                        .requestMatchers(HttpMethod.GET, "/api/v1/tour/**","/api/v1/reviews","/api/v1/reviews/{id}",
-                                "/api/v1/reviews/comments/{reviewId}","/api/v1/tour/search-tags","/api/v1/festival/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/tour/**","/api/v1/reviews","/api/v1/reviews/search","/api/v1/reviews/trending","/api/v1/reviews/spots/summary","/api/v1/reviews/{id}",
+                                "/api/v1/reviews/comments/{reviewId}","/api/v1/reviews/comments/{reviewId}/stream","/api/v1/tour/search-tags","/api/v1/festival/**",
+                                "/api/v1/auth/availability").permitAll()
 
-                        .requestMatchers(HttpMethod.DELETE, "/api/v1/admin/delete-user/**").hasAuthority("ROLE_ADMIN")
+                        // 관리자 API (회원 목록/내보내기/강제 탈퇴 등)는 관리자만
+                        .requestMatchers("/api/v1/admin/**").hasAuthority("ROLE_ADMIN")
 
-                        .requestMatchers(HttpMethod.GET, "/api/v1/admin/users").hasAuthority("ROLE_ADMIN")
+                        // Actuator: health는 공개, 나머지(메트릭 등)는 관리자만
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasAuthority("ROLE_ADMIN")
                         // 나머지 모든 요청은 인증 필요
                         .anyRequest().authenticated()
                 )
                 // JWT 필터를 UsernamePasswordAuthenticationFilter 이전에 등록
                 .addFilterBefore(
-                        new     JwtAuthenticationFilter(jwtTokenProvider),
+                        new JwtAuthenticationFilter(jwtTokenProvider, accessTokenRevocationService),
                         UsernamePasswordAuthenticationFilter.class
                 );
 
+        // 외부 API 프록시 경로 요청 속도 제한: 인증 정보가 정해진 뒤(JWT 필터 다음)에 실행
+        // (@Component로 등록하면 서블릿 필터로도 한 번 더 등록되므로 보안 필터 체인에만 추가합니다)
+        if (rateLimitProperties.isEnabled()) {
+            http.addFilterAfter(new RateLimitFilter(rateLimitProperties, meterRegistry), JwtAuthenticationFilter.class);
+        }
+
         return http.build();
     }
 }
\ No newline at end of file
@@ -2,6 +2,8 @@
 
 package com.example.webserver.config;
 
+import com.example.webserver.config.metrics.TourApiMetricsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -15,9 +17,11 @@ public class WebClientConfig {
     private String baseUrl;
 
     @Bean
-    public WebClient tourApiWebClient() {
+    public WebClient tourApiWebClient(MeterRegistry meterRegistry) {
         return WebClient.builder()
                 .baseUrl(baseUrl)
+                // 엔드포인트별 호출 시간/결과 코드 지표 (tour.api.requests)
+                .filter(new TourApiMetricsFilter(meterRegistry))
                 .build();
     }
 }
\ No newline at end of file
@@ -1,14 +1,11 @@
 package com.example.webserver.config.jwt;
 
-import com.example.webserver.auth.service.CustomUserDetailsService;
+import com.example.webserver.auth.service.AccessTokenRevocationService;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -17,20 +14,17 @@ import java.io.IOException;
 
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
-    private static final Logger logger = LoggerFactory.getLogger(CustomUserDetailsService.class);
     public static final String AUTHORIZATION_HEADER = "Authorization";
     public static final String BEARER_PREFIX = "Bearer ";
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final AccessTokenRevocationService accessTokenRevocationService;
 
     // 요청 헤더에서 토큰 정보 추출
     private String resolveToken(HttpServletRequest request) {
         String bearerToken = request.getHeader(AUTHORIZATION_HEADER);
-        logger.info(String.valueOf(1));
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
-            logger.info(String.valueOf(2));
             return bearerToken.substring(BEARER_PREFIX.length());
-
         }
         return null;
     }
@@ -42,20 +36,16 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         // 1. Request Header에서 토큰 추출
         String jwt = resolveToken(request);
-        logger.info("Authorization = {}", request.getHeader("Authorization"));
-        logger.info("jwt = {}", jwt);
-        logger.info("validate = {}", jwt != null ? jwtTokenProvider.validateToken(jwt) : null);
-
-
-        // 2. validateToken으로 토큰 유효성 검사
-        if (StringUtils.hasText(jwt) && jwtTokenProvider.validateToken(jwt)) {
-            // 토큰이 유효할 경우 SecurityContext에 인증 정보 저장
-            Authentication authentication = jwtTokenProvider.getAuthentication(jwt);
-           logger.info(authentication.toString());
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            logger.info(String.valueOf(3));
+
+        // 2. 검증과 인증 정보 추출을 한 번에 수행 (유효하지 않으면 null)
+        if (StringUtils.hasText(jwt)) {
+            JwtTokenProvider.VerifiedToken verified = jwtTokenProvider.resolve(jwt);
+            // 3. 로그아웃으로 폐기된 토큰인지 확인 (메모리 조회)
+            if (verified != null && !accessTokenRevocationService.isRevoked(verified.tokenId())) {
+                // 토큰이 유효할 경우 SecurityContext에 인증 정보 저장
+                SecurityContextHolder.getContext().setAuthentication(verified.toAuthentication(jwt));
+            }
         }
-        logger.info(String.valueOf(4));
         filterChain.doFilter(request, response);
     }
-}
\ No newline at end of file
+}
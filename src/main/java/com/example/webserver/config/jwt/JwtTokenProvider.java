@@ -1,9 +1,14 @@
 package com.example.webserver.config.jwt;
 
 import com.example.webserver.auth.dto.TokenDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,9 +21,16 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -29,19 +41,69 @@ public class JwtTokenProvider {
     private final long accessTokenExpiration;
     private final long refreshTokenExpiration;
     private SecretKey key;
+    // 키가 정해진 뒤 한 번만 만들어 재사용합니다. (불변, 스레드 안전)
+    private JwtParser parser;
 
-    public JwtTokenProvider(@Value("${jwt.secret}") String secret,
+    // 최근 검증된 액세스 토큰 캐시: 토큰의 SHA-256 해시 -> 검증 결과 (토큰의 exp 시각에 만료)
+    // 같은 토큰으로 반복되는 요청은 HMAC 검증과 JSON 파싱을 건너뜁니다. (max-size가 0이면 캐시 사용 안 함)
+    private final Cache<String, VerifiedToken> verifiedTokens;
+
+    /**
+     * 검증을 마친 액세스 토큰에서 꺼낸 정보.
+     * @param tokenId jti (폐기 목록 조회 키, jti 도입 이전에 발급된 토큰은 null)
+     */
+    public record VerifiedToken(String tokenId, UserDetails principal,
+                                Collection<? extends GrantedAuthority> authorities, long expiresAtMillis) {
+
+        // 캐시된 값은 공유되므로, 요청마다 새 Authentication 객체를 만들어 SecurityContext에 넣습니다.
+        public Authentication toAuthentication(String token) {
+            return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+        }
+    }
+
+    public JwtTokenProvider(MeterRegistry meterRegistry,
+                            @Value("${jwt.secret}") String secret,
                             @Value("${jwt.access-token-expiration}") long accessTokenExpiration,
-                            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration) {
+                            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration,
+                            @Value("${jwt.verified-cache.max-size:10000}") long verifiedCacheMaxSize) {
         this.secret = secret;
         this.accessTokenExpiration = accessTokenExpiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
+        if (verifiedCacheMaxSize <= 0) {
+            this.verifiedTokens = null;
+            return;
+        }
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheMaxSize)
+                .expireAfter(new Expiry<String, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+                        long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.verified");
     }
 
     @PostConstruct
     public void init() {
         byte[] keyBytes = Decoders.BASE64.decode(secret);
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .build();
     }
 
     /**
@@ -58,7 +120,9 @@ public class JwtTokenProvider {
 
         // 2. 액세스 토큰 생성 (만료 시간 짧게)
         Date accessTokenExpiresIn = new Date(now + accessTokenExpiration);
+        // jti: 로그아웃 시 이 토큰만 폐기 목록에 올리기 위한 토큰 ID
         String accessToken = Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(authentication.getName())
                 .claim("auth", authorities) // ⬅️ 토큰에 권한 정보를 담습니다.
                 .issuedAt(new Date(now))
@@ -67,8 +131,11 @@ public class JwtTokenProvider {
                 .compact();
 
         // 3. 리프레시 토큰 생성 (만료 시간 길게)
+        // jti(무작위 ID)를 넣어 같은 시각에 발급된 토큰도 서로 달라지도록 합니다. (세션 조회 키가 토큰 해시이므로)
+        Date refreshTokenExpiresIn = new Date(now + refreshTokenExpiration);
         String refreshToken = Jwts.builder()
-                .expiration(new Date(now + refreshTokenExpiration))
+                .id(UUID.randomUUID().toString())
+                .expiration(refreshTokenExpiresIn)
                 .signWith(key, Jwts.SIG.HS256)
                 .compact();
 
@@ -82,33 +149,70 @@ public class JwtTokenProvider {
                 .accessToken(accessToken)
                 .refreshToken(refreshToken)
                 .accessTokenExpiresIn(accessTokenExpiresIn.getTime())
+                .refreshTokenExpiresIn(refreshTokenExpiresIn.getTime())
                 .role(primaryRole) //  DTO에 권한 정보 주입
                 .isAdmin(isUserAdmin) // 불리언 값 주입
                 .build();
     }
 
-    // JWT 토큰을 복호화하여 인증 객체 반환 (유효한 토큰에만 사용)
-    public Authentication getAuthentication(String token) {
-        // Claims 추출 (여기서는 만료되지 않은 토큰이 들어와야 함)
-        Claims claims = getClaims(token);
-
-        Collection<? extends GrantedAuthority> authorities =
-                Arrays.stream(claims.get("auth").toString().split(","))
-                        .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList());
+    /**
+     * 요청마다 한 번 호출되는 검증 + 인증 정보 추출 단계. (JwtAuthenticationFilter 전용)
+     * 최근 검증된 토큰이면 캐시에서 바로 꺼내고, 아니면 서명 검증과 파싱을 한 번만 수행합니다.
+     * @return 유효한 액세스 토큰이면 검증 결과, 만료/위조/형식 오류/권한 정보 없음이면 null
+     */
+    public VerifiedToken resolve(String token) {
+        if (verifiedTokens == null) {
+            return verify(token);
+        }
+        String cacheKey = sha256Hex(token);
+        VerifiedToken verified = verifiedTokens.getIfPresent(cacheKey);
+        if (verified == null || verified.expiresAtMillis() <= System.currentTimeMillis()) {
+            verified = verify(token);
+            if (verified == null) {
+                return null;
+            }
+            verifiedTokens.put(cacheKey, verified);
+        }
+        return verified;
+    }
 
+    private VerifiedToken verify(String token) {
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.debug("JWT 검증 실패: {}", e.getClass().getSimpleName());
+            return null;
+        }
+        Object auth = claims.get("auth");
+        if (claims.getSubject() == null || auth == null || claims.getExpiration() == null) {
+            // 리프레시 토큰 등 권한 정보가 없는 토큰은 인증에 사용할 수 없습니다.
+            return null;
+        }
+        List<GrantedAuthority> authorities = Arrays.stream(auth.toString().split(","))
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toUnmodifiableList());
         UserDetails principal = new User(claims.getSubject(), "", authorities);
+        return new VerifiedToken(claims.getId(), principal, authorities, claims.getExpiration().getTime());
+    }
 
-        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+    /**
+     * 토큰의 SHA-256 해시 (16진수 64자).
+     * 원본 토큰을 메모리/DB에 보관하지 않도록 검증 캐시 키와 리프레시 세션 조회 키로 사용합니다.
+     */
+    public static String sha256Hex(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
     }
 
     // 토큰 유효성 검증
     public boolean validateToken(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
+            parser.parseSignedClaims(token);
             return true;
         } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.info("잘못된 JWT 서명입니다.");
@@ -130,10 +234,7 @@ public class JwtTokenProvider {
      */
     public Claims getClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token)
+            return parser.parseSignedClaims(token)
                     .getPayload();
         } catch (ExpiredJwtException e) {
             // 만료되었어도 Claims는 반환하여 사용자 식별에 사용
@@ -143,25 +244,4 @@ public class JwtTokenProvider {
             throw new RuntimeException("Invalid token during claims extraction.");
         }
     }
-
-    // ------------------------------------------------------------------
-    // ✨ 추가된 핵심 메서드 2: 만료 여부만 판단
-    // ------------------------------------------------------------------
-    /**
-     * 토큰의 만료 여부만 판단하여 Access Token 재발급 필요성을 확인합니다.
-     */
-    public boolean isTokenExpired(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-            return false; // 만료되지 않음
-        } catch (ExpiredJwtException e) {
-            return true; // 만료됨
-        } catch (Exception e) {
-            // 서명 오류, 형식 오류 등은 만료로 간주하지 않음 (validateToken에서 처리)
-            return false;
-        }
-    }
 }
\ No newline at end of file
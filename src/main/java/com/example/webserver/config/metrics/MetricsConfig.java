@@ -0,0 +1,38 @@
+package com.example.webserver.config.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * 요청 단위 성능 지표 설정.
+ * - Hibernate StatementInspector로 요청당 SQL 문 수 집계 (http.server.requests.sql)
+ * - 관광공사 API 호출 시간은 WebClientConfig에서 {@link TourApiMetricsFilter}로 기록 (tour.api.requests)
+ * 라우트별 지연 히스토그램, Hikari, JVM GC/할당 지표는 Actuator 자동 설정을 application.properties로 켭니다.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public SqlStatementCounter sqlStatementCounter() {
+        return new SqlStatementCounter();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer(SqlStatementCounter sqlStatementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, sqlStatementCounter);
+    }
+
+    // 보안 필터(JWT 검증 중 조회 등)의 SQL도 포함되도록 Spring Security 필터 체인보다 먼저 실행합니다.
+    @Bean
+    public FilterRegistrationBean<SqlStatementMetricsFilter> sqlStatementMetricsFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<SqlStatementMetricsFilter> registration =
+                new FilterRegistrationBean<>(new SqlStatementMetricsFilter(meterRegistry));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.webserver.config.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * 요청 스레드에서 Hibernate가 준비(prepare)한 SQL 문 수를 셉니다.
+ *
+ * {@link SqlStatementMetricsFilter}가 요청 시작 시 {@link #start()}, 끝날 때 {@link #stop()}으로
+ * 구간을 정하며, 구간 밖(스케줄러, 비동기 스트리밍 스레드 등)의 SQL은 세지 않습니다.
+ * JDBC 배치는 문 하나로 준비되므로 한 번으로 셉니다.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    /** 구간을 끝내고 그동안 센 SQL 문 수를 반환합니다. */
+    static int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count != null ? count[0] : 0;
+    }
+}
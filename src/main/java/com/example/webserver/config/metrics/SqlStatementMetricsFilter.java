@@ -0,0 +1,52 @@
+package com.example.webserver.config.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청 하나가 실행한 SQL 문 수를 라우트별 분포로 기록합니다. (http.server.requests.sql)
+ * N+1 쿼리처럼 요청당 SQL 수가 늘어나는 회귀를 라우트 단위로 찾기 위한 지표입니다.
+ */
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    private static final String METRIC_NAME = "http.server.requests.sql";
+
+    private final MeterRegistry meterRegistry;
+
+    public SqlStatementMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = SqlStatementCounter.stop();
+            DistributionSummary.builder(METRIC_NAME)
+                    .description("요청당 실행된 SQL 문 수")
+                    .baseUnit("statements")
+                    .tag("method", request.getMethod())
+                    .tag("uri", routeOf(request))
+                    .serviceLevelObjectives(1, 2, 5, 10, 20, 50, 100)
+                    .register(meterRegistry)
+                    .record(statements);
+        }
+    }
+
+    /** 매칭된 핸들러 경로 패턴 (예: /api/v1/reviews/{id}), 핸들러가 없으면 UNKNOWN (태그 수 폭증 방지) */
+    private static String routeOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
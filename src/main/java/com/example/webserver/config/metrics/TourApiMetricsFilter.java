@@ -0,0 +1,85 @@
+package com.example.webserver.config.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.http.Outcome;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 관광공사 API 호출마다 소요 시간을 endpoint/outcome/resultCode 태그로 기록하는 WebClient 필터.
+ * (tour.api.requests, 예: endpoint=areaBasedList2, outcome=SUCCESS, resultCode=0000)
+ *
+ * 이 API는 오류도 HTTP 200에 본문의 resultCode로 알려 주므로, 응답 본문을 문자열로 읽어 앞부분에서
+ * resultCode를 찾은 뒤 같은 본문으로 응답을 다시 만들어 호출한 쪽에 넘깁니다.
+ * (모든 호출부가 어차피 본문 전체를 String으로 읽으므로 추가 버퍼링 비용은 없습니다.)
+ */
+public class TourApiMetricsFilter implements ExchangeFilterFunction {
+
+    private static final String METRIC_NAME = "tour.api.requests";
+    // JSON 헤더(resultCode) 또는 게이트웨이 오류 XML(returnReasonCode)
+    private static final Pattern RESULT_CODE = Pattern.compile(
+            "\"resultCode\"\\s*:\\s*\"([^\"]{1,10})\"|<returnReasonCode>([^<]{1,10})</returnReasonCode>");
+    // 결과 코드는 응답 헤더에 있으므로 본문 앞부분만 검사합니다.
+    private static final int RESULT_CODE_SCAN_LIMIT = 2048;
+    private static final String NONE = "NONE";
+
+    private final MeterRegistry meterRegistry;
+
+    public TourApiMetricsFilter(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        String endpoint = endpointOf(request.url().getPath());
+        return Mono.defer(() -> {
+            long started = System.nanoTime();
+            return next.exchange(request)
+                    .flatMap(response -> response.bodyToMono(String.class)
+                            .defaultIfEmpty("")
+                            .map(body -> {
+                                record(endpoint, Outcome.forStatus(response.statusCode().value()).name(),
+                                        resultCodeOf(body), started);
+                                return response.mutate().body(body).build();
+                            }))
+                    .doOnError(e -> record(endpoint, "ERROR", NONE, started))
+                    .doOnCancel(() -> record(endpoint, "CANCELLED", NONE, started));
+        });
+    }
+
+    private void record(String endpoint, String outcome, String resultCode, long startedNanos) {
+        Timer.builder(METRIC_NAME)
+                .description("관광공사 API 호출 시간")
+                .tag("endpoint", endpoint)
+                .tag("outcome", outcome)
+                .tag("resultCode", resultCode)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /** 경로의 마지막 조각 (/B551011/KorService2/detailCommon2 -> detailCommon2) */
+    static String endpointOf(String path) {
+        if (path == null || path.isEmpty()) {
+            return NONE;
+        }
+        int end = path.endsWith("/") ? path.length() - 1 : path.length();
+        return path.substring(path.lastIndexOf('/', end - 1) + 1, end);
+    }
+
+    static String resultCodeOf(String body) {
+        Matcher matcher = RESULT_CODE.matcher(body);
+        matcher.region(0, Math.min(body.length(), RESULT_CODE_SCAN_LIMIT));
+        if (!matcher.find()) {
+            return NONE;
+        }
+        return matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.webserver.config.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 API(공공데이터 포털)를 대신 호출하는 경로의 요청 속도를 제한하는 필터.
+ * JwtAuthenticationFilter 다음에 실행되어, 로그인 사용자는 사용자 ID로, 비로그인 요청은 IP로 버킷을 나눕니다.
+ * 한도를 넘은 요청은 컨트롤러/외부 API 호출 전에 429 Too Many Requests와 Retry-After로 거절합니다.
+ *
+ * 비로그인 요청의 IP는 {@code request.getRemoteAddr()}입니다. 프록시 뒤에서는
+ * server.forward-headers-strategy=native 설정으로 신뢰하는 프록시가 보낸 X-Forwarded-For의 클라이언트 IP가 됩니다.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String REJECTED_BODY =
+            "{\"error\":\"Too Many Requests\",\"message\":\"요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.\"}";
+
+    private final List<RateLimitProperties.Group> groups;
+    private final TokenBucketStore buckets;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.groups = List.copyOf(properties.getGroups());
+        this.buckets = new TokenBucketStore(properties.getStripes(), properties.getMaxKeys());
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("http.ratelimit.buckets", buckets, TokenBucketStore::size)
+                .description("메모리에 있는 요청 제한 버킷 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        RateLimitProperties.Group group = match(request);
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        boolean authenticated = authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken);
+        String key = authenticated
+                ? group.getName() + ":user:" + authentication.getName()
+                : group.getName() + ":ip:" + request.getRemoteAddr();
+        RateLimitProperties.Limit limit = authenticated ? group.getAuthenticated() : group.getAnonymous();
+
+        TokenBucketStore.Decision decision = buckets.tryConsume(key, limit, System.nanoTime());
+        if (decision.allowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        Counter.builder("http.ratelimit.rejected")
+                .tag("group", group.getName())
+                .register(meterRegistry)
+                .increment();
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(decision.retryAfterNanos() + 999_999_999L));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(REJECTED_BODY);
+    }
+
+    private RateLimitProperties.Group match(HttpServletRequest request) {
+        if ("OPTIONS".equals(request.getMethod())) {
+            return null; // CORS preflight는 제한하지 않음
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (RateLimitProperties.Group group : groups) {
+            for (String pattern : group.getPaths()) {
+                if (pathMatcher.match(pattern, path)) {
+                    return group;
+                }
+            }
+        }
+        return null;
+    }
+}
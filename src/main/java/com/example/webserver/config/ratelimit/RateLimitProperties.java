@@ -0,0 +1,47 @@
+package com.example.webserver.config.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 경로 그룹별 요청 속도 제한 설정. (rate-limit.*)
+ * 비로그인 요청은 클라이언트 IP, 로그인 요청은 사용자 ID 단위로 토큰 버킷을 둡니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    // 메모리에 유지할 최대 버킷 수 (초과 시 가장 오래 사용되지 않은 버킷부터 제거)
+    private int maxKeys = 100_000;
+
+    // 잠금 분할 수 (버킷 맵을 나누어 스레드 간 경합을 줄입니다)
+    private int stripes = 64;
+
+    private List<Group> groups = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Group {
+        private String name;
+        // Ant 스타일 경로 패턴 (예: /api/v1/tour/**)
+        private List<String> paths = new ArrayList<>();
+        private Limit anonymous = new Limit();
+        private Limit authenticated = new Limit();
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+        // 버킷 크기 (순간 최대 요청 수)
+        private double capacity = 30;
+        // 초당 채워지는 토큰 수 (지속 허용 속도)
+        private double refillPerSecond = 1;
+    }
+}
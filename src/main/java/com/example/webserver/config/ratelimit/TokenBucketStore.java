@@ -0,0 +1,99 @@
+package com.example.webserver.config.ratelimit;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 키별 토큰 버킷 저장소. 메모리 상한이 있는 잠금 분할(striped) LRU 맵입니다.
+ *
+ * 키 해시로 stripe를 고르고, stripe마다 접근 순서 LinkedHashMap과 잠금을 하나씩 둡니다.
+ * stripe별 최대 크기(maxKeys / stripes)를 넘으면 가장 오래 사용되지 않은 버킷을 제거합니다.
+ * (제거된 키는 다음 요청 때 가득 찬 버킷으로 다시 시작하므로, 상한은 넉넉하게 잡습니다)
+ */
+final class TokenBucketStore {
+
+    /** 토큰 소비 결과: 허용 여부와 거절 시 다음 토큰까지 남은 시간(나노초) */
+    record Decision(boolean allowed, long retryAfterNanos) {
+    }
+
+    private final Stripe[] stripes;
+
+    TokenBucketStore(int stripeCount, int maxKeys) {
+        int perStripe = Math.max(1, maxKeys / stripeCount);
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+    }
+
+    /** key의 버킷에서 토큰 1개를 소비합니다. */
+    Decision tryConsume(String key, RateLimitProperties.Limit limit, long nowNanos) {
+        Stripe stripe = stripes[Math.floorMod(key.hashCode() * 0x9E3779B9, stripes.length)];
+        stripe.lock.lock();
+        try {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(limit.getCapacity(), nowNanos);
+                stripe.buckets.put(key, bucket);
+            }
+            return bucket.tryConsume(limit, nowNanos);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                size += stripe.buckets.size();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return size;
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<String, Bucket> buckets;
+
+        private Stripe(int maxSize) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxSize;
+                }
+            };
+        }
+    }
+
+    /** 토큰 버킷 (stripe 잠금 안에서만 접근) - 경과 시간만큼 토큰을 채운 뒤 1개를 소비합니다. */
+    private static final class Bucket {
+        private double tokens;
+        private long lastRefillNanos;
+
+        private Bucket(double tokens, long nowNanos) {
+            this.tokens = tokens;
+            this.lastRefillNanos = nowNanos;
+        }
+
+        private Decision tryConsume(RateLimitProperties.Limit limit, long nowNanos) {
+            double refillPerNano = limit.getRefillPerSecond() / 1_000_000_000.0;
+            tokens = Math.min(limit.getCapacity(), tokens + (nowNanos - lastRefillNanos) * refillPerNano);
+            lastRefillNanos = nowNanos;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return new Decision(true, 0);
+            }
+            // 채움 속도가 0이면(고정 한도) 재시도 시점을 알 수 없으므로 1시간으로 안내합니다.
+            long retryAfterNanos = refillPerNano > 0
+                    ? (long) Math.ceil((1 - tokens) / refillPerNano)
+                    : TimeUnit.HOURS.toNanos(1);
+            return new Decision(false, retryAfterNanos);
+        }
+    }
+}
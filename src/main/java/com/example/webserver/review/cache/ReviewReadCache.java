@@ -0,0 +1,163 @@
+package com.example.webserver.review.cache;
+
+import com.example.webserver.auth.event.UserHiddenEvent;
+import com.example.webserver.review.dto.response.ReviewBoardResponseDto;
+import com.example.webserver.review.event.CommentChangedEvent;
+import com.example.webserver.review.event.ReviewChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 리뷰 상세(ID별)와 목록 앞쪽 N개 페이지를 담아두는 읽기 전용 캐시.
+ * 캐시에는 불변 DTO만 저장하며, 조회수처럼 자주 바뀌는 값은 조회 시점에 덧씌웁니다.
+ * 게시글/댓글 변경 이벤트를 트랜잭션 커밋 이후에 받아 무효화합니다.
+ */
+@Slf4j
+@Component
+public class ReviewReadCache {
+
+    // 목록 캐시 대상: 기본 정렬(createdAt DESC)만 캐시합니다.
+    private static final Sort DEFAULT_LIST_SORT = Sort.by(Sort.Direction.DESC, "createdAt");
+
+    private final Cache<Long, ReviewBoardResponseDto> detailCache;
+    private final Cache<String, Page<ReviewBoardResponseDto>> listCache;
+    private final int cachedListPages;
+
+    // 조회수 반영(DB UPDATE 커밋 -> 캐시 보정)과 캐시 적재(DB 조회 -> 캐시 저장)가 겹치지 않게 합니다.
+    // 겹치면 이미 증가분이 반영된 값을 적재한 항목에 증가분을 한 번 더 더하게 됩니다. (캐시 적중 시에는 잠그지 않음)
+    private final ReadWriteLock viewCountLock = new ReentrantReadWriteLock();
+
+    public ReviewReadCache(MeterRegistry meterRegistry,
+                           @Value("${review.cache.detail-max-size:10000}") long detailMaxSize,
+                           @Value("${review.cache.ttl:10m}") Duration ttl,
+                           @Value("${review.cache.list-pages:3}") int cachedListPages) {
+        this.detailCache = Caffeine.newBuilder()
+                .maximumSize(detailMaxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.listCache = Caffeine.newBuilder()
+                .maximumSize(cachedListPages * 10L)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.cachedListPages = cachedListPages;
+
+        // 적중/미스 통계를 메트릭으로 노출 (cache.gets{cache=review.detail,result=hit|miss} 등)
+        CaffeineCacheMetrics.monitor(meterRegistry, detailCache, "review.detail");
+        CaffeineCacheMetrics.monitor(meterRegistry, listCache, "review.list");
+    }
+
+    // -----------------------------------------------------------------
+    // 조회 (Read-through)
+    // -----------------------------------------------------------------
+
+    /** 상세 DTO를 캐시에서 찾고, 없으면 loader로 적재합니다. (loader의 예외는 그대로 전파되며 캐시되지 않습니다.) */
+    public ReviewBoardResponseDto getDetail(Long id, Function<Long, ReviewBoardResponseDto> loader) {
+        ReviewBoardResponseDto cached = detailCache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        viewCountLock.readLock().lock();
+        try {
+            return detailCache.get(id, loader);
+        } finally {
+            viewCountLock.readLock().unlock();
+        }
+    }
+
+    /** 캐시 대상 페이지(기본 정렬의 앞쪽 N개)이면 캐시를 거치고, 아니면 loader를 바로 호출합니다. */
+    public Page<ReviewBoardResponseDto> getListPage(Pageable pageable, Supplier<Page<ReviewBoardResponseDto>> loader) {
+        if (!isCacheable(pageable)) {
+            return loader.get();
+        }
+        String key = pageable.getPageNumber() + ":" + pageable.getPageSize();
+        Page<ReviewBoardResponseDto> cached = listCache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        viewCountLock.readLock().lock();
+        try {
+            return listCache.get(key, k -> loader.get());
+        } finally {
+            viewCountLock.readLock().unlock();
+        }
+    }
+
+    private boolean isCacheable(Pageable pageable) {
+        return pageable.isPaged()
+                && pageable.getPageNumber() < cachedListPages
+                && pageable.getSort().equals(DEFAULT_LIST_SORT);
+    }
+
+    // -----------------------------------------------------------------
+    // 무효화
+    // -----------------------------------------------------------------
+
+    /**
+     * 조회수 증가분을 DB에 반영(persist)하고, 같은 증가분을 캐시된 상세/목록 DTO에 더합니다. (캐시에 없는 항목은 무시)
+     * 조회수 반영만으로 캐시를 비우면 목록 캐시가 반영 주기마다 사라지므로, 비우지 않고 값만 고칩니다.
+     * persist의 커밋부터 보정까지 캐시 적재를 막으므로, 캐시에 있는 항목은 증가분을 정확히 한 번만 포함합니다.
+     */
+    public void addViewCount(Long id, long delta, Runnable persist) {
+        viewCountLock.writeLock().lock();
+        try {
+            persist.run();
+            detailCache.asMap().computeIfPresent(id,
+                    (key, dto) -> dto.withViewCount((int) (dto.getViewCount() + delta)));
+            listCache.asMap().replaceAll((key, page) -> withViewCountAdded(page, id, delta));
+        } finally {
+            viewCountLock.writeLock().unlock();
+        }
+    }
+
+    private static Page<ReviewBoardResponseDto> withViewCountAdded(Page<ReviewBoardResponseDto> page, Long id, long delta) {
+        if (page.getContent().stream().noneMatch(dto -> id.equals(dto.getId()))) {
+            return page;
+        }
+        List<ReviewBoardResponseDto> content = page.getContent().stream()
+                .map(dto -> id.equals(dto.getId()) ? dto.withViewCount((int) (dto.getViewCount() + delta)) : dto)
+                .toList();
+        return new PageImpl<>(content, page.getPageable(), page.getTotalElements());
+    }
+
+    @TransactionalEventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        log.debug("Review cache invalidated by {} of review {}", event.getType(), event.getReviewId());
+        if (event.getType() != ReviewChangedEvent.Type.CREATED) {
+            detailCache.invalidate(event.getReviewId());
+        }
+        // 생성/수정/삭제 모두 목록 페이지 구성에 영향을 주므로 목록 캐시는 통째로 비웁니다.
+        listCache.invalidateAll();
+    }
+
+    @TransactionalEventListener
+    public void onCommentChanged(CommentChangedEvent event) {
+        detailCache.invalidate(event.getReviewId());
+    }
+
+    /** 숨김 처리된 회원은 리뷰가 많으므로(백그라운드 삭제 대상) ID를 모으지 않고 캐시를 통째로 비웁니다. (드문 이벤트) */
+    @TransactionalEventListener
+    public void onUserHidden(UserHiddenEvent event) {
+        log.debug("Review cache cleared: user {} hidden", event.getUserId());
+        detailCache.invalidateAll();
+        listCache.invalidateAll();
+    }
+}
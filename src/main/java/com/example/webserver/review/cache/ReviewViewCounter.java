@@ -0,0 +1,76 @@
+package com.example.webserver.review.cache;
+
+import com.example.webserver.review.dto.response.ReviewBoardResponseDto;
+import com.example.webserver.review.repository.ReviewBoardRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 게시글 조회수를 메모리에 누적했다가 주기적으로 DB에 반영하는 카운터.
+ * 캐시된 DTO는 불변이므로, 응답 시점에 (캐시된 조회수 + 아직 반영되지 않은 증가분)을 덧씌웁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReviewViewCounter {
+
+    private final ReviewBoardRepository reviewBoardRepository;
+    private final ReviewReadCache reviewReadCache;
+
+    // 게시글 ID -> DB에 아직 반영되지 않은 조회수 증가분
+    private final Map<Long, Long> pendingViews = new ConcurrentHashMap<>();
+
+    public void increment(Long reviewId) {
+        pendingViews.merge(reviewId, 1L, Long::sum);
+    }
+
+    /** 캐시된 DTO에 반영 대기 중인 조회수를 더한 복사본을 반환합니다. */
+    public ReviewBoardResponseDto overlay(ReviewBoardResponseDto dto) {
+        long pending = pendingViews.getOrDefault(dto.getId(), 0L);
+        return pending == 0 ? dto : dto.withViewCount((int) (dto.getViewCount() + pending));
+    }
+
+    /**
+     * 누적된 증가분을 게시글별 UPDATE 한 번으로 DB에 반영하고, 같은 증가분을 캐시된 DTO에 더합니다.
+     * (캐시를 비우지 않으므로 목록/상세 캐시는 조회수 반영과 관계없이 TTL 동안 유지됩니다.)
+     * 캐시에 더한 뒤 대기분에서 빼므로, 그 사이 조회는 잠깐 증가분이 두 번 더해진 값을 볼 수 있습니다. (감소해 보이지는 않음)
+     */
+    @Scheduled(fixedDelayString = "${review.view-count.flush-interval-ms:10000}")
+    public void flush() {
+        int flushed = 0;
+
+        for (Map.Entry<Long, Long> entry : pendingViews.entrySet()) {
+            Long reviewId = entry.getKey();
+            long delta = entry.getValue();
+            if (delta == 0) {
+                continue;
+            }
+            try {
+                reviewReadCache.addViewCount(reviewId, delta,
+                        () -> reviewBoardRepository.addViewCount(reviewId, (int) delta));
+            } catch (RuntimeException e) {
+                // 반영 실패 시 대기분을 그대로 두어 다음 주기에 다시 시도합니다.
+                log.warn("조회수 반영 실패 (reviewId: {}, delta: {}): {}", reviewId, delta, e.getMessage());
+                continue;
+            }
+            // 반영한 만큼만 빼서, 그 사이 새로 들어온 증가분은 남깁니다.
+            pendingViews.computeIfPresent(reviewId, (id, pending) -> pending - delta == 0 ? null : pending - delta);
+            flushed++;
+        }
+
+        if (flushed > 0) {
+            log.debug("Flushed view counts for {} reviews", flushed);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
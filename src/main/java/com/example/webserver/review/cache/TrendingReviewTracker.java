@@ -0,0 +1,182 @@
+package com.example.webserver.review.cache;
+
+import com.example.webserver.review.event.CommentChangedEvent;
+import com.example.webserver.review.event.ReviewChangedEvent;
+import com.example.webserver.review.event.ReviewViewedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 조회/댓글 이벤트로 리뷰별 인기 점수를 메모리에 집계하는 Top-K 트래커.
+ *
+ * 점수는 반감기(half-life) 기반 지수 감쇠를 적용하며, 모든 항목을 주기적으로 감쇠시키는 대신
+ * 기준 시각(landmark) 대비 가중치를 키워서 더하는 forward decay 방식으로 저장합니다.
+ * (저장값 = Σ weight * e^(λ(t - landmark)), 현재 점수 = 저장값 * e^(-λ(now - landmark)))
+ * 모든 항목에 같은 배율이 곱해지므로 순위 비교는 저장값만으로 가능하고,
+ * 상위 K개 ID 목록은 주기적으로 미리 계산해 두어 조회는 O(k)입니다.
+ */
+@Slf4j
+@Component
+public class TrendingReviewTracker {
+
+    // 지수가 이 값을 넘으면 기준 시각을 현재로 옮겨 저장값을 다시 스케일합니다. (double 오버플로 방지)
+    private static final double RESCALE_EXPONENT = 30.0;
+    // 현재 점수가 이 값보다 작아진 항목은 집계에서 제외합니다.
+    private static final double MIN_SCORE = 0.01;
+
+    private final double lambda; // 1ms 당 감쇠율 (ln2 / 반감기)
+    private final double viewWeight;
+    private final double commentWeight;
+    private final int maxSize;
+    private final int maxTracked;
+
+    // 리뷰 ID -> forward decay 저장값
+    private final Map<Long, DoubleAdder> scores = new ConcurrentHashMap<>();
+    // 점수 누적은 읽기 락(동시 허용), 재스케일/정리는 쓰기 락
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private volatile long landmarkMillis = System.currentTimeMillis();
+    private volatile List<Long> topIds = List.of();
+
+    public TrendingReviewTracker(@Value("${review.trending.half-life:6h}") Duration halfLife,
+                                 @Value("${review.trending.view-weight:1}") double viewWeight,
+                                 @Value("${review.trending.comment-weight:5}") double commentWeight,
+                                 @Value("${review.trending.max-size:100}") int maxSize,
+                                 @Value("${review.trending.max-tracked:50000}") int maxTracked) {
+        this.lambda = Math.log(2) / halfLife.toMillis();
+        this.viewWeight = viewWeight;
+        this.commentWeight = commentWeight;
+        this.maxSize = maxSize;
+        this.maxTracked = maxTracked;
+    }
+
+    // -----------------------------------------------------------------
+    // 집계 (이벤트 수신)
+    // -----------------------------------------------------------------
+
+    @EventListener
+    public void onReviewViewed(ReviewViewedEvent event) {
+        record(event.getReviewId(), viewWeight, System.currentTimeMillis());
+    }
+
+    @TransactionalEventListener
+    public void onCommentChanged(CommentChangedEvent event) {
+        if (event.getType() == CommentChangedEvent.Type.CREATED) {
+            record(event.getReviewId(), commentWeight, System.currentTimeMillis());
+        }
+    }
+
+    @TransactionalEventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        if (event.getType() == ReviewChangedEvent.Type.DELETED) {
+            Long reviewId = event.getReviewId();
+            scores.remove(reviewId);
+            if (topIds.contains(reviewId)) {
+                topIds = topIds.stream().filter(id -> !id.equals(reviewId)).toList();
+            }
+        }
+    }
+
+    /** atMillis 시각에 발생한 가중치 weight를 더합니다. (스냅샷 복원 시 과거 시각도 사용) */
+    public void record(Long reviewId, double weight, long atMillis) {
+        lock.readLock().lock();
+        try {
+            double scaled = weight * Math.exp(lambda * (atMillis - landmarkMillis));
+            scores.computeIfAbsent(reviewId, id -> new DoubleAdder()).add(scaled);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // -----------------------------------------------------------------
+    // 조회
+    // -----------------------------------------------------------------
+
+    /** 미리 계산된 상위 리뷰 ID 목록 중 앞쪽 limit개를 반환합니다. */
+    public List<Long> getTopIds(int limit) {
+        List<Long> current = topIds;
+        return current.subList(0, Math.min(limit, current.size()));
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /** 현재 점수 기준 상위 n개 (리뷰 ID, 현재 점수) - 스냅샷 저장용 */
+    public List<Map.Entry<Long, Double>> currentScores(int n) {
+        long now = System.currentTimeMillis();
+        double decay = Math.exp(-lambda * (now - landmarkMillis));
+        return topEntries(n).stream()
+                .map(e -> Map.entry(e.getKey(), e.getValue() * decay))
+                .toList();
+    }
+
+    // -----------------------------------------------------------------
+    // 주기 작업: 재스케일, 정리, 상위 목록 갱신
+    // -----------------------------------------------------------------
+
+    @Scheduled(fixedDelayString = "${review.trending.refresh-interval-ms:5000}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        if (lambda * (now - landmarkMillis) > RESCALE_EXPONENT || scores.size() > maxTracked) {
+            rescaleAndPrune(now);
+        }
+        topIds = topEntries(maxSize).stream().map(Map.Entry::getKey).toList();
+    }
+
+    private void rescaleAndPrune(long now) {
+        lock.writeLock().lock();
+        try {
+            double factor = Math.exp(-lambda * (now - landmarkMillis));
+            scores.replaceAll((id, adder) -> {
+                DoubleAdder rescaled = new DoubleAdder();
+                rescaled.add(adder.sum() * factor);
+                return rescaled;
+            });
+            landmarkMillis = now;
+            scores.values().removeIf(adder -> adder.sum() < MIN_SCORE);
+
+            // 그래도 추적 개수 상한을 넘으면 점수가 낮은 항목부터 제거합니다.
+            if (scores.size() > maxTracked) {
+                List<Long> keep = topEntries(maxTracked).stream().map(Map.Entry::getKey).toList();
+                scores.keySet().retainAll(new HashSet<>(keep));
+            }
+            log.debug("Trending scores rescaled; tracking {} reviews", scores.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /** 저장값 기준 상위 n개를 크기 n의 최소 힙으로 구합니다. (O(N log n)) */
+    private List<Map.Entry<Long, Double>> topEntries(int n) {
+        PriorityQueue<Map.Entry<Long, Double>> heap = new PriorityQueue<>(Map.Entry.comparingByValue());
+        for (Map.Entry<Long, DoubleAdder> entry : scores.entrySet()) {
+            double value = entry.getValue().sum();
+            if (heap.size() < n) {
+                heap.offer(Map.entry(entry.getKey(), value));
+            } else if (value > heap.peek().getValue()) {
+                heap.poll();
+                heap.offer(Map.entry(entry.getKey(), value));
+            }
+        }
+        List<Map.Entry<Long, Double>> result = new ArrayList<>(heap);
+        result.sort(Map.Entry.<Long, Double>comparingByValue(Comparator.reverseOrder()));
+        return result;
+    }
+}
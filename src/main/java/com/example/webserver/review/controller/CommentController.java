@@ -2,16 +2,22 @@ package com.example.webserver.review.controller;
 
 import com.example.webserver.review.dto.request.CommentRequestDto;
 import com.example.webserver.review.dto.response.CommentResponseDto;
+import com.example.webserver.review.dto.response.ReviewVersionDto;
 import com.example.webserver.review.service.CommentService;
+import com.example.webserver.review.stream.CommentStreamHub;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @RestController
 // URL 경로를 /api/v1/reviews/{reviewId}/comments 형식으로 구성합니다.
@@ -20,6 +26,7 @@ import java.util.Map;
 public class CommentController {
 
     private final CommentService commentService;
+    private final CommentStreamHub commentStreamHub;
 
     // ------------------- 댓글 작성 (POST) -------------------
     // URL: POST /api/v1/reviews/{reviewId}/comments
@@ -39,11 +46,34 @@ public class CommentController {
     // ------------------- 댓글 조회 (GET) -------------------
     // URL: GET /api/v1/reviews/{reviewId}/comments
     @GetMapping("/comments/{reviewId}")
-    public ResponseEntity<List<CommentResponseDto>> getComments(@PathVariable Long reviewId) {
+    public ResponseEntity<List<CommentResponseDto>> getComments(@PathVariable Long reviewId, WebRequest webRequest) {
+        // 조건부 GET: 댓글 버전이 그대로면 댓글을 조회하지 않고 304 Not Modified 반환
+        Optional<ReviewVersionDto> version = commentService.findReviewVersion(reviewId);
+        if (version.isPresent()
+                && webRequest.checkNotModified(version.get().commentsETag(), version.get().commentsLastModified())) {
+            return null;
+        }
+
         List<CommentResponseDto> comments = commentService.getCommentsByReviewId(reviewId);
         return ResponseEntity.ok(comments); // 200 OK
     }
 
+    // ------------------- 댓글 실시간 스트림 (SSE) -------------------
+    // URL: GET /api/v1/reviews/comments/{reviewId}/stream
+    // 커밋된 댓글 생성/수정/삭제를 created/updated/deleted 이벤트로 전송합니다.
+    @GetMapping(value = "/comments/{reviewId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamComments(@PathVariable Long reviewId) {
+        if (commentService.findReviewVersion(reviewId).isEmpty()) {
+            return ResponseEntity.notFound().build(); // 404 Not Found
+        }
+        try {
+            return ResponseEntity.ok(commentStreamHub.subscribe(reviewId));
+        } catch (IllegalStateException e) {
+            // 동시 구독자 수 상한 초과
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build(); // 503
+        }
+    }
+
     // ------------------- 댓글 수정 (PUT) -------------------
     // URL: PUT /api/v1/reviews/comments/{commentId}
     @PutMapping("/comments/{commentId}")
@@ -1,7 +1,12 @@
 package com.example.webserver.review.controller;
 
 import com.example.webserver.review.dto.request.ReviewBoardRequestDto;
+import com.example.webserver.review.dto.request.ReviewSearchRequestDto;
 import com.example.webserver.review.dto.response.ReviewBoardResponseDto;
+import com.example.webserver.review.dto.response.ReviewSearchResponseDto;
+import com.example.webserver.review.dto.response.ReviewVersionDto;
+import com.example.webserver.review.dto.response.SpotReviewSummaryDto;
+import com.example.webserver.review.service.ReviewSpotStatsService;
 import com.example.webserver.common.dto.ResponseWrapperDto; // 메시지와 데이터를 래핑하는 DTO
 import com.example.webserver.review.service.ReviewBoardService;
 import lombok.RequiredArgsConstructor;
@@ -13,14 +18,19 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import jakarta.validation.Valid;
 
+import java.util.List;
+import java.util.Optional;
+
 @RestController
 @RequestMapping("/api/v1/reviews")
 @RequiredArgsConstructor
 public class ReviewBoardController {
 
     private final ReviewBoardService reviewBoardService;
+    private final ReviewSpotStatsService reviewSpotStatsService;
 
     /**
      * 현재 로그인된 사용자(Principal)의 ID를 SecurityContext에서 가져오는 헬퍼 메서드
@@ -53,7 +63,14 @@ public class ReviewBoardController {
     // 2. GET /api/v1/reviews/{id} 요청 처리 (게시글 단일 조회)
     // -----------------------------------------------------------------
     @GetMapping("/{id}")
-    public ResponseEntity<ReviewBoardResponseDto> getReviewById(@PathVariable Long id) {
+    public ResponseEntity<ReviewBoardResponseDto> getReviewById(@PathVariable Long id, WebRequest webRequest) {
+
+        // 조건부 GET: 버전 정보만 조회하여 변경이 없으면 본문 없이 304 Not Modified 반환
+        Optional<ReviewVersionDto> version = reviewBoardService.findPostVersion(id);
+        if (version.isPresent()
+                && webRequest.checkNotModified(version.get().reviewETag(), version.get().reviewLastModified())) {
+            return null;
+        }
 
         // 단일 조회는 ResponseWrapper 없이 원본 DTO를 반환하는 것이 일반적입니다.
         ReviewBoardResponseDto response = reviewBoardService.getPostById(id);
@@ -73,6 +90,47 @@ public class ReviewBoardController {
         return ResponseEntity.ok(response);
     }
 
+    // -----------------------------------------------------------------
+    // 3-0. GET /api/v1/reviews/trending 요청 처리 (인기 리뷰)
+    // 예: /api/v1/reviews/trending?limit=10
+    // -----------------------------------------------------------------
+    @GetMapping("/trending")
+    public ResponseEntity<List<ReviewBoardResponseDto>> getTrendingReviews(
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(reviewBoardService.getTrendingPosts(limit));
+    }
+
+    // -----------------------------------------------------------------
+    // 3-1. GET /api/v1/reviews/search 요청 처리 (게시글 검색)
+    // -----------------------------------------------------------------
+    @GetMapping("/search")
+    public ResponseEntity<ReviewSearchResponseDto> searchReviews(@ModelAttribute ReviewSearchRequestDto requestDto) {
+        try {
+            return ResponseEntity.ok(reviewBoardService.searchPosts(requestDto));
+        } catch (IllegalArgumentException e) {
+            // 잘못된 커서 값
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    // -----------------------------------------------------------------
+    // 3-2. GET /api/v1/reviews/spots/summary 요청 처리 (여행지별 리뷰 요약 일괄 조회)
+    // 예: /api/v1/reviews/spots/summary?contentIds=126508,126509&recent=3
+    // -----------------------------------------------------------------
+    @GetMapping("/spots/summary")
+    public ResponseEntity<List<SpotReviewSummaryDto>> getSpotReviewSummaries(
+            @RequestParam List<String> contentIds,
+            @RequestParam(defaultValue = "3") int recent
+    ) {
+        try {
+            return ResponseEntity.ok(reviewSpotStatsService.getSummaries(contentIds, recent));
+        } catch (IllegalArgumentException e) {
+            // 요청 여행지 개수 초과
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     // -----------------------------------------------------------------
     // 4. PUT /api/v1/reviews/{id} 요청 처리 (게시글 수정)
     // -----------------------------------------------------------------
@@ -0,0 +1,18 @@
+package com.example.webserver.review.dto.request;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 리뷰 검색 조건 (모든 항목 선택 사항)
+ * GET /api/v1/reviews/search?region=서울&spotContentId=126508&query=야경&cursor=...&size=20
+ */
+@Getter
+@Setter
+public class ReviewSearchRequestDto {
+    private String region;
+    private String spotContentId;
+    private String query;   // 제목/내용 텍스트 검색어
+    private String cursor;  // 이전 응답의 nextCursor (첫 페이지는 비움)
+    private Integer size;
+}
@@ -17,12 +17,17 @@ public class CommentResponseDto {
     private Long reviewId; // ⬅️ postId 대신 reviewId 사용
 
     public static CommentResponseDto of(Comment comment) {
+        return of(comment, comment.getUser().getNickname());
+    }
+
+    /** 작성자 닉네임을 따로 받는 변환 (작성자가 프록시 참조일 때 User 로딩 쿼리를 피합니다.) */
+    public static CommentResponseDto of(Comment comment, String nickname) {
         return CommentResponseDto.builder()
                 .commentId(comment.getId())
                 .content(comment.getContent())
                 .createdAt(comment.getCreatedAt())
                 .updatedAt(comment.getUpdatedAt())
-                .nickname(comment.getUser().getNickname())
+                .nickname(nickname)
                 .reviewId(comment.getReview().getId()) // ⬅️ 수정 완료
                 .build();
     }
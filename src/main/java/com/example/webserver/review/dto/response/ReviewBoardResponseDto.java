@@ -6,7 +6,7 @@ import lombok.Getter;
 import java.time.LocalDateTime;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class ReviewBoardResponseDto {
     private Long id;
     private String title;
@@ -19,11 +19,16 @@ public class ReviewBoardResponseDto {
     private LocalDateTime updatedAt;
 
     public static ReviewBoardResponseDto of(ReviewBoard board) {
+        return of(board, board.getUser().getNickname());
+    }
+
+    /** 작성자 닉네임을 따로 받는 변환 (작성자가 프록시 참조일 때 User 로딩 쿼리를 피합니다.) */
+    public static ReviewBoardResponseDto of(ReviewBoard board, String nickname) {
         return ReviewBoardResponseDto.builder()
                 .id(board.getId())
                 .title(board.getTitle())
                 .content(board.getContent())
-                .nickname(board.getUser().getNickname())
+                .nickname(nickname)
                 .viewCount(board.getViewCount())
                 .region(board.getRegion())
                 .spotContentId(board.getSpotContentId())
@@ -31,4 +36,9 @@ public class ReviewBoardResponseDto {
                 .updatedAt(board.getUpdatedAt())
                 .build();
     }
+
+    /** 조회수만 바꾼 복사본을 반환합니다. (캐시된 DTO는 변경하지 않습니다.) */
+    public ReviewBoardResponseDto withViewCount(int viewCount) {
+        return this.toBuilder().viewCount(viewCount).build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.example.webserver.review.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 리뷰 검색 결과 (키셋 페이지네이션)
+ * 다음 페이지는 nextCursor를 cursor 파라미터로 전달하여 조회합니다.
+ */
+@Getter
+@Builder
+public class ReviewSearchResponseDto {
+    private List<ReviewBoardResponseDto> items;
+    private String nextCursor; // 다음 페이지가 없으면 null
+    private boolean hasNext;
+}
@@ -0,0 +1,46 @@
+package com.example.webserver.review.dto.response;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 리뷰/댓글 조회 API의 조건부 GET(ETag, Last-Modified) 판단에 사용하는 버전 정보
+ */
+@Getter
+@RequiredArgsConstructor
+public class ReviewVersionDto {
+    private final Long id;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+    private final long commentVersion;
+    private final LocalDateTime commentsModifiedAt;
+
+    /**
+     * 게시글 상세 응답용 약한 ETag: (id, updatedAt, 댓글 버전).
+     * 본문의 조회수는 반영하지 않으므로 바이트 단위로 같은 응답을 보장하지 않습니다. (If-None-Match는 약한 비교로 판단됩니다.)
+     */
+    public String reviewETag() {
+        return "W/\"r" + id + "-" + toEpochMilli(updatedAt) + "-" + commentVersion + "\"";
+    }
+
+    /** 댓글 목록 응답용 강한 ETag */
+    public String commentsETag() {
+        return "\"c" + id + "-" + toEpochMilli(updatedAt) + "-" + commentVersion + "\"";
+    }
+
+    public long reviewLastModified() {
+        return toEpochMilli(updatedAt != null ? updatedAt : createdAt);
+    }
+
+    /** 댓글이 한 번도 변경되지 않았다면 게시글 작성 시각을 기준으로 합니다. */
+    public long commentsLastModified() {
+        return toEpochMilli(commentsModifiedAt != null ? commentsModifiedAt : createdAt);
+    }
+
+    private static long toEpochMilli(LocalDateTime time) {
+        return time == null ? -1 : time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.webserver.review.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 여행지(contentId)별 리뷰 요약: 리뷰 수, 최근 작성 시각, 최근 리뷰 k건
+ */
+@Getter
+@Builder
+public class SpotReviewSummaryDto {
+    private String spotContentId;
+    private String spotTitle;      // tour_item에 등록된 여행지 이름 (없으면 null)
+    private long reviewCount;
+    private LocalDateTime latestReviewAt;
+    private List<RecentReview> recentReviews;
+
+    @Getter
+    @Builder
+    public static class RecentReview {
+        private Long reviewId;
+        private String title;
+        private String nickname;
+        private LocalDateTime createdAt;
+    }
+}
@@ -15,7 +15,8 @@ import lombok.NoArgsConstructor;
 public class Comment extends BaseTimeEntity { // BaseTimeEntity 상속
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq_generator")
+    @SequenceGenerator(name = "comment_seq_generator", sequenceName = "comment_seq", allocationSize = 50)
     @Column(name = "comment_id")
     private Long id;
 
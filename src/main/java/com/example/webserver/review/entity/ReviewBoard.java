@@ -8,17 +8,23 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Getter
-@Table(name = "review")
+@Table(name = "review", indexes = {
+        @Index(name = "idx_review_created_at_id", columnList = "created_at DESC, review_id DESC"),
+        @Index(name = "idx_review_region_created_at", columnList = "region, created_at DESC, review_id DESC"),
+        @Index(name = "idx_review_spot_created_at", columnList = "spot_content_id, created_at DESC, review_id DESC")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ReviewBoard extends BaseTimeEntity { // BaseTimeEntity 상속
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "review_seq_generator")
+    @SequenceGenerator(name = "review_seq_generator", sequenceName = "review_seq", allocationSize = 50)
     @Column(name = "review_id")
     private Long id;
 
@@ -45,6 +51,13 @@ public class ReviewBoard extends BaseTimeEntity { // BaseTimeEntity 상속
     @Column(name = "spot_content_id", nullable = false)
     private String spotContentId;
 
+    // 댓글이 생성/수정/삭제될 때마다 증가 (댓글 목록 ETag 계산용, 벌크 UPDATE로만 변경)
+    @Column(name = "comment_version", nullable = false)
+    private long commentVersion;
+
+    @Column(name = "comments_modified_at")
+    private LocalDateTime commentsModifiedAt;
+
     @Builder
     public ReviewBoard(User user, String title, String content, String region, String spotContentId) {
         this.user = user;
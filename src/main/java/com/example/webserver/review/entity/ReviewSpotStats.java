@@ -0,0 +1,32 @@
+package com.example.webserver.review.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 여행지(contentId)별 리뷰 집계.
+ * 리뷰 생성/삭제 시 ReviewSpotStatsService가 네이티브 쿼리로 증분 갱신합니다.
+ */
+@Entity
+@Getter
+@Table(name = "review_spot_stats")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReviewSpotStats {
+
+    @Id
+    @Column(name = "spot_content_id")
+    private String spotContentId;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "latest_review_at")
+    private LocalDateTime latestReviewAt;
+}
@@ -0,0 +1,32 @@
+package com.example.webserver.review.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 인기 리뷰 점수 스냅샷. (서버 재시작 시 메모리 집계 복원용)
+ * score는 snapshot_at 시점 기준으로 감쇠가 적용된 값입니다.
+ */
+@Entity
+@Getter
+@Table(name = "review_trending_snapshot")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReviewTrendingSnapshot {
+
+    @Id
+    @Column(name = "review_id")
+    private Long reviewId;
+
+    @Column(name = "score", nullable = false)
+    private double score;
+
+    @Column(name = "snapshot_at", nullable = false)
+    private LocalDateTime snapshotAt;
+}
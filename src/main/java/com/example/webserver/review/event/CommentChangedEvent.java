@@ -0,0 +1,21 @@
+package com.example.webserver.review.event;
+
+import com.example.webserver.review.dto.response.CommentResponseDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 댓글이 생성/수정/삭제되었을 때 발행되는 애플리케이션 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class CommentChangedEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Long reviewId;
+    private final Long commentId;
+    private final Type type;
+    // 변경된 댓글 (실시간 스트림 전송용, 삭제 시에는 null)
+    private final CommentResponseDto comment;
+}
@@ -0,0 +1,18 @@
+package com.example.webserver.review.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리뷰 게시글이 생성/수정/삭제되었을 때 발행되는 애플리케이션 이벤트
+ * (캐시 무효화 등은 트랜잭션 커밋 이후에 이 이벤트를 받아 처리합니다.)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ReviewChangedEvent {
+
+    public enum Type { CREATED, UPDATED, DELETED }
+
+    private final Long reviewId;
+    private final Type type;
+}
@@ -0,0 +1,14 @@
+package com.example.webserver.review.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 리뷰 게시글 상세가 조회되었을 때 발행되는 애플리케이션 이벤트 (인기 리뷰 집계용)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ReviewViewedEvent {
+
+    private final Long reviewId;
+}
@@ -0,0 +1,11 @@
+package com.example.webserver.review.exception;
+
+/**
+ * 게시글이 없거나 삭제되었을 때 발생합니다. (404 Not Found, GlobalExceptionHandler의 "찾을 수 없습니다." 처리)
+ */
+public class ReviewNotFoundException extends RuntimeException {
+
+    public ReviewNotFoundException(Long id) {
+        super("게시글을 찾을 수 없습니다. (ID: " + id + ")");
+    }
+}
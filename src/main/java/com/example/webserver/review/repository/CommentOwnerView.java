@@ -0,0 +1,9 @@
+package com.example.webserver.review.repository;
+
+/**
+ * 댓글 수정/삭제 권한 확인용 프로젝션 (작성자 로그인 ID와 소속 리뷰 ID만 조회)
+ */
+public interface CommentOwnerView {
+    Long getReviewId();
+    String getAuthorLoginUserId();
+}
@@ -1,13 +1,53 @@
 package com.example.webserver.review.repository;
 
 import com.example.webserver.review.entity.Comment;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
     /**
      * 특정 ReviewBoard의 모든 댓글을 생성일 기준 오름차순으로 조회합니다.
      */
     List<Comment> findAllByReviewIdOrderByCreatedAtAsc(Long reviewId);
-}
\ No newline at end of file
+
+    /**
+     * 작성자(User)를 함께 조회합니다. (응답 DTO의 닉네임 지연 로딩 쿼리 방지)
+     */
+    @EntityGraph(attributePaths = "user")
+    Optional<Comment> findWithUserById(Long id);
+
+    /**
+     * 권한 확인용: 댓글 작성자의 로그인 ID와 소속 리뷰 ID만 조회합니다.
+     */
+    @Query("SELECT c.review.id AS reviewId, u.loginUserId AS authorLoginUserId " +
+            "FROM Comment c JOIN c.user u WHERE c.id = :id")
+    Optional<CommentOwnerView> findOwnerById(@Param("id") Long id);
+
+    /**
+     * 엔티티를 로딩하지 않고 댓글 한 건을 삭제합니다.
+     */
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.id = :id")
+    int deleteByIdDirectly(@Param("id") Long id);
+
+    /** 주어진 리뷰들에 달린 댓글을 DELETE 한 번으로 삭제합니다. (comment.review_id 인덱스 사용) */
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.review.id IN :reviewIds")
+    int deleteAllByReviewIdIn(@Param("reviewIds") Collection<Long> reviewIds);
+
+    /** 사용자가 댓글을 단 리뷰 ID 목록 (회원 삭제 시 댓글 버전 갱신/캐시 무효화용) */
+    @Query("SELECT DISTINCT c.review.id FROM Comment c WHERE c.user.userId = :userId")
+    List<Long> findDistinctReviewIdsByUserId(@Param("userId") Long userId);
+
+    /** 사용자가 작성한 댓글을 DELETE 한 번으로 삭제합니다. */
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.user.userId = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+}
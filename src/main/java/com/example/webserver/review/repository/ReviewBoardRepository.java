@@ -1,8 +1,102 @@
 package com.example.webserver.review.repository;
 
+import com.example.webserver.review.dto.response.ReviewVersionDto;
 import com.example.webserver.review.entity.ReviewBoard;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
-public interface ReviewBoardRepository extends JpaRepository<ReviewBoard, Long> {
-    // ... 필요한 추가 메서드 (예: findByTitleContaining 등)
-}
\ No newline at end of file
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ReviewBoardRepository extends JpaRepository<ReviewBoard, Long>, ReviewBoardSearchRepository {
+
+    /**
+     * 작성자(User)를 함께 조회합니다. (DTO 변환 시 닉네임 지연 로딩 쿼리 방지)
+     */
+    @EntityGraph(attributePaths = "user")
+    Optional<ReviewBoard> findWithUserById(Long id);
+
+    /**
+     * 상세 조회용: 작성자를 함께 조회하되, 숨김 처리(삭제 예약)된 회원의 게시글은 제외합니다.
+     */
+    @Query("SELECT r FROM ReviewBoard r JOIN FETCH r.user u WHERE r.id = :id AND u.deletedAt IS NULL")
+    Optional<ReviewBoard> findVisibleWithUserById(@Param("id") Long id);
+
+    /**
+     * 목록 조회 시에도 작성자를 함께 조회하여 N+1 쿼리를 방지합니다. (숨김 처리된 회원의 게시글 제외)
+     */
+    @EntityGraph(attributePaths = "user")
+    @Query(value = "SELECT r FROM ReviewBoard r WHERE r.user.deletedAt IS NULL",
+            countQuery = "SELECT count(r) FROM ReviewBoard r WHERE r.user.deletedAt IS NULL")
+    Page<ReviewBoard> findAllVisible(Pageable pageable);
+
+    /**
+     * 누적된 조회수 증가분을 한 번의 UPDATE로 반영합니다. (updatedAt은 변경하지 않습니다.)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ReviewBoard r SET r.viewCount = r.viewCount + :delta WHERE r.id = :id")
+    int addViewCount(@Param("id") Long id, @Param("delta") int delta);
+
+    /**
+     * 권한 확인용: 게시글 작성자의 로그인 ID를 users 조인 한 번으로 조회합니다.
+     */
+    @Query("SELECT u.loginUserId AS authorLoginUserId, r.spotContentId AS spotContentId " +
+            "FROM ReviewBoard r JOIN r.user u WHERE r.id = :id")
+    Optional<ReviewOwnerView> findOwnerById(@Param("id") Long id);
+
+    /**
+     * 특정 사용자가 리뷰를 작성한 여행지 ID 목록 (회원 삭제 후 여행지별 집계 재계산용)
+     */
+    @Query("SELECT DISTINCT r.spotContentId FROM ReviewBoard r WHERE r.user.userId = :userId")
+    List<String> findDistinctSpotContentIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 조건부 GET 판단용 버전 정보만 PK로 조회합니다. (본문/댓글은 로딩하지 않습니다.)
+     */
+    @Query("SELECT new com.example.webserver.review.dto.response.ReviewVersionDto(" +
+            "r.id, r.createdAt, r.updatedAt, r.commentVersion, r.commentsModifiedAt) " +
+            "FROM ReviewBoard r WHERE r.id = :id AND r.user.deletedAt IS NULL")
+    Optional<ReviewVersionDto> findVersionById(@Param("id") Long id);
+
+    /**
+     * 댓글 변경 시 리뷰의 댓글 버전을 올립니다. (리뷰의 updatedAt은 변경하지 않습니다.)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ReviewBoard r SET r.commentVersion = r.commentVersion + 1, r.commentsModifiedAt = :now WHERE r.id = :id")
+    int bumpCommentVersion(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // -----------------------------------------------------------------
+    // 일괄(집합 단위) 삭제 - 엔티티를 영속성 컨텍스트에 올리지 않습니다.
+    // -----------------------------------------------------------------
+
+    /** 사용자가 작성한 리뷰 수 (즉시 삭제 / 백그라운드 삭제 판단용) */
+    long countByUser_UserId(Long userId);
+
+    /** 사용자가 작성한 리뷰 ID를 청크 크기만큼 조회합니다. (삭제하면서 반복 조회) */
+    @Query("SELECT r.id FROM ReviewBoard r WHERE r.user.userId = :userId ORDER BY r.id")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    /** 주어진 리뷰들의 여행지 ID 목록 (삭제 후 여행지별 집계 재계산용) */
+    @Query("SELECT DISTINCT r.spotContentId FROM ReviewBoard r WHERE r.id IN :ids")
+    List<String> findDistinctSpotContentIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /** 리뷰를 DELETE 한 번으로 삭제합니다. (댓글은 먼저 삭제되어 있어야 합니다.) */
+    @Modifying
+    @Query("DELETE FROM ReviewBoard r WHERE r.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") Collection<Long> ids);
+
+    /** 여러 리뷰의 댓글 버전을 한 번에 올립니다. (다른 사람 리뷰에 달린 탈퇴 회원의 댓글 삭제 시) */
+    @Modifying
+    @Query("UPDATE ReviewBoard r SET r.commentVersion = r.commentVersion + 1, r.commentsModifiedAt = :now WHERE r.id IN :ids")
+    int bumpCommentVersions(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,23 @@
+package com.example.webserver.review.repository;
+
+import com.example.webserver.review.entity.ReviewBoard;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 리뷰 검색(지역/여행지 필터 + 제목·내용 텍스트 검색) 전용 커스텀 리포지토리
+ */
+public interface ReviewBoardSearchRepository {
+
+    /**
+     * 조건에 맞는 리뷰를 (createdAt DESC, id DESC) 순으로 키셋 페이지네이션하여 조회합니다.
+     * 모든 조건은 선택 사항이며, null이면 해당 조건을 적용하지 않습니다.
+     *
+     * @param cursorCreatedAt 이전 페이지 마지막 항목의 작성 시각
+     * @param cursorId        이전 페이지 마지막 항목의 ID
+     * @param limit           최대 조회 개수
+     */
+    List<ReviewBoard> search(String region, String spotContentId, String text,
+                             LocalDateTime cursorCreatedAt, Long cursorId, int limit);
+}
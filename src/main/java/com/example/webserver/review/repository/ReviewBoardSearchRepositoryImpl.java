@@ -0,0 +1,62 @@
+package com.example.webserver.review.repository;
+
+import com.example.webserver.review.entity.ReviewBoard;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주어진 조건만 WHERE 절에 포함하는 동적 JPQL로 검색합니다.
+ * 사용되는 인덱스 (V3 마이그레이션):
+ * - (region, created_at, review_id), (spot_content_id, created_at, review_id) btree
+ * - title / content pg_trgm GIN (ILIKE '%검색어%')
+ * 숨김 처리(삭제 예약)된 회원의 게시글은 제외합니다.
+ */
+@RequiredArgsConstructor
+public class ReviewBoardSearchRepositoryImpl implements ReviewBoardSearchRepository {
+
+    private final EntityManager em;
+
+    @Override
+    public List<ReviewBoard> search(String region, String spotContentId, String text,
+                                    LocalDateTime cursorCreatedAt, Long cursorId, int limit) {
+
+        StringBuilder jpql = new StringBuilder("SELECT r FROM ReviewBoard r JOIN FETCH r.user u WHERE u.deletedAt IS NULL");
+        Map<String, Object> params = new HashMap<>();
+
+        if (region != null) {
+            jpql.append(" AND r.region = :region");
+            params.put("region", region);
+        }
+        if (spotContentId != null) {
+            jpql.append(" AND r.spotContentId = :spotContentId");
+            params.put("spotContentId", spotContentId);
+        }
+        if (text != null) {
+            jpql.append(" AND (r.title ILIKE :pattern ESCAPE '\\' OR r.content ILIKE :pattern ESCAPE '\\')");
+            params.put("pattern", "%" + escapeLike(text) + "%");
+        }
+        if (cursorCreatedAt != null && cursorId != null) {
+            // 키셋 조건: 이전 페이지 마지막 항목보다 뒤(더 오래된) 항목만
+            jpql.append(" AND (r.createdAt < :cursorCreatedAt OR (r.createdAt = :cursorCreatedAt AND r.id < :cursorId))");
+            params.put("cursorCreatedAt", cursorCreatedAt);
+            params.put("cursorId", cursorId);
+        }
+        jpql.append(" ORDER BY r.createdAt DESC, r.id DESC");
+
+        TypedQuery<ReviewBoard> query = em.createQuery(jpql.toString(), ReviewBoard.class)
+                .setMaxResults(limit);
+        params.forEach(query::setParameter);
+
+        return query.getResultList();
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.webserver.review.repository;
+
+/**
+ * 수정/삭제 권한 확인용 프로젝션 (작성자 로그인 ID만 조회, 엔티티/작성자 로딩 없음)
+ */
+public interface ReviewOwnerView {
+    String getAuthorLoginUserId();
+    String getSpotContentId();
+}
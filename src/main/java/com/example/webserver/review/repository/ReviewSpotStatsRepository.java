@@ -0,0 +1,94 @@
+package com.example.webserver.review.repository;
+
+import com.example.webserver.review.entity.ReviewSpotStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ReviewSpotStatsRepository extends JpaRepository<ReviewSpotStats, String> {
+
+    /**
+     * 리뷰 생성 시 해당 여행지의 집계를 1 증가시킵니다. (행이 없으면 생성)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO review_spot_stats (spot_content_id, review_count, latest_review_at) " +
+            "VALUES (:spotContentId, 1, :createdAt) " +
+            "ON CONFLICT (spot_content_id) DO UPDATE SET " +
+            "review_count = review_spot_stats.review_count + 1, " +
+            "latest_review_at = GREATEST(review_spot_stats.latest_review_at, EXCLUDED.latest_review_at)",
+            nativeQuery = true)
+    void incrementReviewCount(@Param("spotContentId") String spotContentId, @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * 재계산 전에 집계 행이 없는 여행지의 빈 행을 만듭니다. (잠글 행이 항상 있도록, 이미 있으면 무시)
+     * 다른 트랜잭션이 같은 키를 막 만들었다면 그 커밋을 기다린 뒤 넘어갑니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO review_spot_stats (spot_content_id, review_count, latest_review_at) " +
+            "SELECT ids.spot_content_id, 0, NULL FROM unnest(ARRAY[:spotContentIds]) AS ids(spot_content_id) " +
+            "ON CONFLICT (spot_content_id) DO NOTHING",
+            nativeQuery = true)
+    void insertMissing(@Param("spotContentIds") Collection<String> spotContentIds);
+
+    /**
+     * 재계산할 집계 행을 잠급니다. 진행 중인 증가(incrementReviewCount)가 있으면 그 커밋을 기다리고,
+     * 잠근 뒤 시작한 증가는 재계산이 커밋될 때까지 기다리므로, 재계산이 덮어쓰는 사이 증가분을 잃지 않습니다.
+     * (재계산끼리의 교착을 피하려고 키 순서로 잠급니다.)
+     */
+    @Query(value = "SELECT spot_content_id FROM review_spot_stats WHERE spot_content_id IN (:spotContentIds) " +
+            "ORDER BY spot_content_id FOR UPDATE",
+            nativeQuery = true)
+    List<String> lockForRecompute(@Param("spotContentIds") Collection<String> spotContentIds);
+
+    /**
+     * 리뷰 테이블에서 주어진 여행지들의 집계를 다시 계산해 덮어씁니다. (리뷰가 0건인 여행지는 0으로 기록)
+     * 반드시 같은 트랜잭션에서 lockForRecompute로 행을 잠근 뒤 호출합니다. (READ COMMITTED에서 이 문장의
+     * 스냅샷은 잠금 이후에 잡히므로, 잠금 전에 커밋된 리뷰는 모두 포함됩니다.)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO review_spot_stats (spot_content_id, review_count, latest_review_at) " +
+            "SELECT ids.spot_content_id, count(r.review_id), max(r.created_at) " +
+            "FROM unnest(ARRAY[:spotContentIds]) AS ids(spot_content_id) " +
+            "LEFT JOIN review r ON r.spot_content_id = ids.spot_content_id " +
+            "GROUP BY ids.spot_content_id " +
+            "ON CONFLICT (spot_content_id) DO UPDATE SET " +
+            "review_count = EXCLUDED.review_count, latest_review_at = EXCLUDED.latest_review_at",
+            nativeQuery = true)
+    void upsertRecomputed(@Param("spotContentIds") Collection<String> spotContentIds);
+
+    /**
+     * 재계산 결과 리뷰가 0건인 집계 행을 지웁니다.
+     * 그 사이 리뷰 생성으로 1 이상이 된 행은 조건을 다시 확인하므로 지워지지 않습니다.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM review_spot_stats WHERE spot_content_id IN (:spotContentIds) AND review_count = 0",
+            nativeQuery = true)
+    void deleteEmpty(@Param("spotContentIds") Collection<String> spotContentIds);
+
+    /**
+     * 여행지별 집계와 최근 리뷰 k건을 한 번의 쿼리로 조회합니다.
+     * 최근 리뷰는 (spot_content_id, created_at) 인덱스를 타는 LATERAL 서브쿼리로 여행지마다 k건만 읽습니다.
+     * (숨김 처리된 회원의 리뷰는 최근 리뷰에서 제외)
+     */
+    @Query(value = "SELECT s.spot_content_id AS \"spotContentId\", t.title AS \"spotTitle\", " +
+            "s.review_count AS \"reviewCount\", s.latest_review_at AS \"latestReviewAt\", " +
+            "r.review_id AS \"reviewId\", r.title AS \"reviewTitle\", u.nickname AS \"nickname\", " +
+            "r.created_at AS \"reviewCreatedAt\" " +
+            "FROM review_spot_stats s " +
+            "LEFT JOIN tour_item t ON t.content_id = s.spot_content_id " +
+            "LEFT JOIN LATERAL (SELECT r2.review_id, r2.title, r2.user_id, r2.created_at FROM review r2 " +
+            "    JOIN users u2 ON u2.user_id = r2.user_id " +
+            "    WHERE r2.spot_content_id = s.spot_content_id AND u2.deleted_at IS NULL " +
+            "    ORDER BY r2.created_at DESC, r2.review_id DESC LIMIT :recentLimit) r ON TRUE " +
+            "LEFT JOIN users u ON u.user_id = r.user_id " +
+            "WHERE s.spot_content_id IN (:spotContentIds) " +
+            "ORDER BY s.spot_content_id, r.created_at DESC, r.review_id DESC",
+            nativeQuery = true)
+    List<SpotReviewSummaryRow> findSummaries(@Param("spotContentIds") Collection<String> spotContentIds,
+                                             @Param("recentLimit") int recentLimit);
+}
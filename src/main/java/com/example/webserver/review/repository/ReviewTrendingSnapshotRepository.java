@@ -0,0 +1,26 @@
+package com.example.webserver.review.repository;
+
+import com.example.webserver.review.entity.ReviewTrendingSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+public interface ReviewTrendingSnapshotRepository extends JpaRepository<ReviewTrendingSnapshot, Long> {
+
+    @Modifying
+    @Query(value = "DELETE FROM review_trending_snapshot", nativeQuery = true)
+    void deleteAllRows();
+
+    /**
+     * 스냅샷 한 건을 추가합니다. (삭제된 리뷰는 건너뜁니다.)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO review_trending_snapshot (review_id, score, snapshot_at) " +
+            "SELECT r.review_id, :score, :snapshotAt FROM review r WHERE r.review_id = :reviewId",
+            nativeQuery = true)
+    void insertRow(@Param("reviewId") Long reviewId, @Param("score") double score,
+                   @Param("snapshotAt") LocalDateTime snapshotAt);
+}
@@ -0,0 +1,18 @@
+package com.example.webserver.review.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 여행지별 리뷰 집계 + 최근 리뷰 한 건을 담는 네이티브 쿼리 결과 행
+ * (최근 리뷰가 k개면 같은 여행지에 대해 k개의 행이 반환됩니다.)
+ */
+public interface SpotReviewSummaryRow {
+    String getSpotContentId();
+    String getSpotTitle();
+    Long getReviewCount();
+    LocalDateTime getLatestReviewAt();
+    Long getReviewId();
+    String getReviewTitle();
+    String getNickname();
+    LocalDateTime getReviewCreatedAt();
+}
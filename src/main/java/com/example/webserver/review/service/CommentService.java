@@ -2,17 +2,23 @@ package com.example.webserver.review.service;
 
 import com.example.webserver.review.dto.request.CommentRequestDto;
 import com.example.webserver.review.dto.response.CommentResponseDto;
+import com.example.webserver.review.dto.response.ReviewVersionDto;
 import com.example.webserver.review.entity.Comment;
 import com.example.webserver.review.entity.ReviewBoard;
 import com.example.webserver.auth.entity.User;
+import com.example.webserver.review.repository.CommentOwnerView;
 import com.example.webserver.review.repository.CommentRepository;
 import com.example.webserver.review.repository.ReviewBoardRepository;
+import com.example.webserver.auth.cache.PrincipalCache;
 import com.example.webserver.auth.repository.UserRepository;
+import com.example.webserver.review.event.CommentChangedEvent;
+import com.example.webserver.common.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -25,6 +31,8 @@ public class CommentService {
     private final CommentRepository commentRepository;
     private final ReviewBoardRepository reviewBoardRepository;
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     // ------------------- 댓글 작성 -------------------
 
@@ -34,8 +42,10 @@ public class CommentService {
         ReviewBoard review = reviewBoardRepository.findById(reviewId)
                 .orElseThrow(() -> new IllegalArgumentException("리뷰 ID를 찾을 수 없습니다: " + reviewId));
 
-        User user = userRepository.findByLoginUserId(loginUserId)
+        // 작성자는 캐시된 PK로 프록시 참조만 만듭니다. (User 조회 쿼리 없음)
+        PrincipalCache.Entry author = principalCache.get(loginUserId)
                 .orElseThrow(() -> new IllegalArgumentException("작성자 계정을 찾을 수 없습니다: " + loginUserId));
+        User user = userRepository.getReferenceById(author.userId());
 
         // 2. Comment 엔티티 생성 및 저장
         Comment comment = Comment.builder()
@@ -45,9 +55,12 @@ public class CommentService {
                 .build();
 
         comment = commentRepository.save(comment);
+        reviewBoardRepository.bumpCommentVersion(reviewId, LocalDateTime.now());
 
         // 3. Response DTO로 변환
-        return CommentResponseDto.of(comment);
+        CommentResponseDto response = CommentResponseDto.of(comment, author.nickname());
+        eventPublisher.publishEvent(new CommentChangedEvent(reviewId, comment.getId(), CommentChangedEvent.Type.CREATED, response));
+        return response;
     }
 
     // ------------------- 댓글 조회 -------------------
@@ -60,66 +73,69 @@ public class CommentService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 댓글 목록의 조건부 GET 판단용 버전 정보만 조회합니다. (댓글은 로딩하지 않습니다.)
+     */
+    public Optional<ReviewVersionDto> findReviewVersion(Long reviewId) {
+        return reviewBoardRepository.findVersionById(reviewId);
+    }
+
     // ------------------- 댓글 수정 -------------------
 
     @Transactional
     public CommentResponseDto updateComment(Long commentId, String loginUserId, CommentRequestDto requestDto) {
-        Comment comment = commentRepository.findById(commentId)
+        // 응답에 닉네임이 필요하므로 작성자를 함께 조회
+        Comment comment = commentRepository.findWithUserById(commentId)
                 .orElseThrow(() -> new IllegalArgumentException("댓글 ID를 찾을 수 없습니다: " + commentId));
 
         // 1. 권한 확인: 관리자이거나 작성자 본인이어야 수정 가능
-        if (!hasPermission(comment, loginUserId)) {
+        if (!hasPermission(comment.getUser().getLoginUserId(), loginUserId)) {
             throw new IllegalArgumentException("댓글을 수정할 권한이 없습니다.");
         }
 
         // 2. 내용 업데이트
         comment.updateContent(requestDto.getContent());
+        reviewBoardRepository.bumpCommentVersion(comment.getReview().getId(), LocalDateTime.now());
 
-        return CommentResponseDto.of(comment);
+        CommentResponseDto response = CommentResponseDto.of(comment);
+        eventPublisher.publishEvent(new CommentChangedEvent(comment.getReview().getId(), commentId, CommentChangedEvent.Type.UPDATED, response));
+        return response;
     }
 
     // ------------------- 댓글 삭제 -------------------
 
     @Transactional
     public void deleteComment(Long commentId, String loginUserId) {
-        Comment comment = commentRepository.findById(commentId)
+        // 작성자 로그인 ID와 리뷰 ID만 프로젝션으로 조회 (엔티티 로딩 없음)
+        CommentOwnerView owner = commentRepository.findOwnerById(commentId)
                 .orElseThrow(() -> new IllegalArgumentException("댓글 ID를 찾을 수 없습니다: " + commentId));
 
         // 1. 권한 확인: 관리자이거나 작성자 본인이어야 삭제 가능
-        if (!hasPermission(comment, loginUserId)) {
+        if (!hasPermission(owner.getAuthorLoginUserId(), loginUserId)) {
             throw new IllegalArgumentException("댓글을 삭제할 권한이 없습니다.");
         }
 
         // 2. 삭제 실행
-        commentRepository.delete(comment);
+        commentRepository.deleteByIdDirectly(commentId);
+        reviewBoardRepository.bumpCommentVersion(owner.getReviewId(), LocalDateTime.now());
+        eventPublisher.publishEvent(new CommentChangedEvent(owner.getReviewId(), commentId, CommentChangedEvent.Type.DELETED, null));
     }
 
     // ------------------- 권한 확인 유틸리티 -------------------
 
     /**
      * 현재 사용자가 댓글의 작성자이거나 관리자인지 확인합니다.
-     * @param comment 검증할 댓글 엔티티
+     * 관리자 여부는 JWT에서 복원된 권한(ROLE_ADMIN)으로 판단하므로 사용자 조회 쿼리가 없습니다.
+     * @param authorLoginUserId 댓글 작성자의 로그인 ID
      * @param loginUserId 현재 로그인한 사용자 ID
      * @return 권한이 있으면 true, 없으면 false
      */
-    private boolean hasPermission(Comment comment, String loginUserId) {
-        // 1. 현재 사용자 엔티티를 조회하여 권한 정보 획득
-        Optional<User> currentUserOpt = userRepository.findByLoginUserId(loginUserId);
-
-        if (currentUserOpt.isEmpty()) {
-            return false; // 사용자를 찾을 수 없음
-        }
-
-        User currentUser = currentUserOpt.get();
-
-        // 2. 권한 확인 로직
+    private boolean hasPermission(String authorLoginUserId, String loginUserId) {
         // A. 관리자 권한 확인 (ROLE_ADMIN)
-        // User 엔티티의 getAuthorities()가 is_admin 필드를 기반으로 ROLE_ADMIN을 반환함
-        boolean isAdmin = currentUser.getAuthorities()
-                .contains(new SimpleGrantedAuthority("ROLE_ADMIN"));
+        boolean isAdmin = SecurityUtil.isCurrentUserAdmin();
 
         // B. 작성자 본인 확인
-        boolean isOwner = comment.getUser().getLoginUserId().equals(loginUserId);
+        boolean isOwner = authorLoginUserId.equals(loginUserId);
 
         // 관리자이거나 작성자 본인인 경우 접근 허용
         return isAdmin || isOwner;
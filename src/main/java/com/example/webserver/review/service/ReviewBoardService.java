@@ -1,41 +1,72 @@
 package com.example.webserver.review.service;
 
 import com.example.webserver.review.dto.request.ReviewBoardRequestDto;
+import com.example.webserver.review.dto.request.ReviewSearchRequestDto;
 import com.example.webserver.review.dto.response.ReviewBoardResponseDto;
+import com.example.webserver.review.dto.response.ReviewSearchResponseDto;
+import com.example.webserver.review.dto.response.ReviewVersionDto;
 import com.example.webserver.review.entity.ReviewBoard;
 import com.example.webserver.auth.entity.User;
+import com.example.webserver.review.repository.CommentRepository;
 import com.example.webserver.review.repository.ReviewBoardRepository;
+import com.example.webserver.review.repository.ReviewOwnerView;
 import com.example.webserver.auth.repository.UserRepository;
+import com.example.webserver.auth.cache.PrincipalCache;
 import com.example.webserver.auth.exception.AuthorizationException; // ★ 추가: Custom Exception Import
+import com.example.webserver.review.cache.ReviewReadCache;
+import com.example.webserver.review.cache.ReviewViewCounter;
+import com.example.webserver.review.cache.TrendingReviewTracker;
+import com.example.webserver.review.event.ReviewChangedEvent;
+import com.example.webserver.review.event.ReviewViewedEvent;
+import com.example.webserver.review.exception.ReviewNotFoundException;
+import com.example.webserver.common.util.SecurityUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ReviewBoardService {
 
+    private static final int DEFAULT_SEARCH_SIZE = 20;
+    private static final int MAX_SEARCH_SIZE = 50;
+
     private final ReviewBoardRepository reviewBoardRepository;
+    private final CommentRepository commentRepository;
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final ReviewReadCache reviewReadCache;
+    private final ReviewViewCounter reviewViewCounter;
+    private final TrendingReviewTracker trendingReviewTracker;
+    private final ReviewSpotStatsService reviewSpotStatsService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // -----------------------------------------------------------------
     // ★★★ 추가: 관리자 권한 및 작성자 일치 확인 헬퍼 메서드 ★★★
     // -----------------------------------------------------------------
     /**
      * 게시글 수정/삭제 권한을 확인합니다. (작성자 또는 관리자만 허용)
+     * 관리자 여부는 JWT에서 복원된 권한(ROLE_ADMIN)으로 판단하므로 사용자 조회 쿼리가 없습니다.
+     * @param authorLoginUserId 게시글 작성자의 로그인 ID
      */
-    private void checkAuthorization(ReviewBoard board, String loginUserId) {
-
-        // 1. 현재 로그인 사용자 조회 (관리자 권한 확인용)
-        User currentUser = userRepository.findByLoginUserId(loginUserId)
-                .orElseThrow(() -> new RuntimeException("현재 로그인된 사용자를 찾을 수 없습니다."));
+    private void checkAuthorization(String authorLoginUserId, String loginUserId) {
 
-        // 2. 권한 확인 로직: 작성자이거나 관리자이면 통과
-        boolean isAuthor = board.getUser().getLoginUserId().equals(loginUserId);
-        boolean isAdmin = currentUser.isAdmin(); // User 엔티티에 isAdmin() 메서드가 있다고 가정
+        // 권한 확인 로직: 작성자이거나 관리자이면 통과
+        boolean isAuthor = authorLoginUserId.equals(loginUserId);
+        boolean isAdmin = SecurityUtil.isCurrentUserAdmin();
 
         if (!isAuthor && !isAdmin) {
             // ★★★ 변경: RuntimeException 대신 AuthorizationException을 던집니다. ★★★
@@ -48,8 +79,10 @@ public class ReviewBoardService {
     @Transactional
     public ReviewBoardResponseDto createPost(String loginUserId, ReviewBoardRequestDto requestDto) {
 
-        User user = userRepository.findByLoginUserId(loginUserId)
+        // 캐시된 PK로 프록시 참조만 만듭니다. (User 조회 쿼리 없음)
+        PrincipalCache.Entry author = principalCache.get(loginUserId)
                 .orElseThrow(() -> new RuntimeException("작성자를 찾을 수 없습니다. (ID: " + loginUserId + ")"));
+        User user = userRepository.getReferenceById(author.userId());
 
         ReviewBoard board = ReviewBoard.builder()
                 .user(user)
@@ -60,29 +93,131 @@ public class ReviewBoardService {
                 .build();
 
         ReviewBoard savedBoard = reviewBoardRepository.save(board);
+        reviewSpotStatsService.onReviewCreated(savedBoard.getSpotContentId(), savedBoard.getCreatedAt());
+        eventPublisher.publishEvent(new ReviewChangedEvent(savedBoard.getId(), ReviewChangedEvent.Type.CREATED));
 
-        return ReviewBoardResponseDto.of(savedBoard);
+        return ReviewBoardResponseDto.of(savedBoard, author.nickname());
     }
 
     // 2. 게시글 단일 조회 (Read by Id)
-    @Transactional
+    // 캐시된 DTO를 사용하고, 조회수는 메모리에 누적한 뒤 응답 시점에 덧씌웁니다.
+    // 트랜잭션 없이 실행하므로 캐시 적중 시에는 커넥션을 빌리지 않습니다. (미스 시 리포지토리 호출 동안만 사용, 작성자는 EntityGraph로 로딩)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ReviewBoardResponseDto getPostById(Long id) {
 
-        ReviewBoard board = reviewBoardRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다. (ID: " + id + ")"));
+        ReviewBoardResponseDto cached = reviewReadCache.getDetail(id, this::loadPost);
+
+        reviewViewCounter.increment(id);
+        eventPublisher.publishEvent(new ReviewViewedEvent(id));
 
-        board.incrementViewCount();
+        return reviewViewCounter.overlay(cached);
+    }
+
+    /**
+     * 조건부 GET 판단용 버전 정보만 조회합니다. (게시글 본문은 로딩하지 않습니다.)
+     */
+    public Optional<ReviewVersionDto> findPostVersion(Long id) {
+        return reviewBoardRepository.findVersionById(id);
+    }
 
+    private ReviewBoardResponseDto loadPost(Long id) {
+        ReviewBoard board = reviewBoardRepository.findVisibleWithUserById(id)
+                .orElseThrow(() -> new ReviewNotFoundException(id));
         return ReviewBoardResponseDto.of(board);
     }
 
     // 3. 게시글 목록 조회 (Read List with Paging)
+    // 기본 정렬의 앞쪽 페이지는 캐시에서 반환합니다.
     @Transactional(readOnly = true)
     public Page<ReviewBoardResponseDto> getAllPosts(Pageable pageable) {
 
-        Page<ReviewBoard> boardPage = reviewBoardRepository.findAll(pageable);
+        Page<ReviewBoardResponseDto> page = reviewReadCache.getListPage(pageable,
+                () -> reviewBoardRepository.findAllVisible(pageable).map(ReviewBoardResponseDto::of));
+
+        return page.map(reviewViewCounter::overlay);
+    }
+
+    // 3-1. 인기 리뷰 (시간 감쇠 점수 상위 K개)
+    // 상위 ID 목록은 트래커가 미리 계산해 두고, 본문은 상세 캐시에서 가져옵니다. (getPostById와 같이 트랜잭션 없이 실행)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ReviewBoardResponseDto> getTrendingPosts(int limit) {
+
+        int size = Math.max(1, Math.min(limit, trendingReviewTracker.getMaxSize()));
+
+        List<ReviewBoardResponseDto> result = new ArrayList<>(size);
+        for (Long id : trendingReviewTracker.getTopIds(size)) {
+            try {
+                result.add(reviewViewCounter.overlay(reviewReadCache.getDetail(id, this::loadPost)));
+            } catch (ReviewNotFoundException e) {
+                // 집계 이후 삭제된 게시글은 건너뜁니다. (DB 오류 등은 그대로 전파)
+            }
+        }
+        return result;
+    }
+
+    // 3-2. 게시글 검색 (지역/여행지 필터 + 텍스트 검색, 키셋 페이지네이션)
+    public ReviewSearchResponseDto searchPosts(ReviewSearchRequestDto request) {
+
+        int size = request.getSize() == null ? DEFAULT_SEARCH_SIZE
+                : Math.max(1, Math.min(request.getSize(), MAX_SEARCH_SIZE));
+
+        LocalDateTime cursorCreatedAt = null;
+        Long cursorId = null;
+        if (hasText(request.getCursor())) {
+            String[] cursor = decodeCursor(request.getCursor());
+            cursorCreatedAt = LocalDateTime.parse(cursor[0]);
+            cursorId = Long.parseLong(cursor[1]);
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 size + 1개 조회
+        List<ReviewBoard> boards = reviewBoardRepository.search(
+                trimToNull(request.getRegion()),
+                trimToNull(request.getSpotContentId()),
+                trimToNull(request.getQuery()),
+                cursorCreatedAt, cursorId, size + 1);
+
+        boolean hasNext = boards.size() > size;
+        List<ReviewBoard> pageItems = hasNext ? boards.subList(0, size) : boards;
+
+        String nextCursor = null;
+        if (hasNext) {
+            ReviewBoard last = pageItems.get(pageItems.size() - 1);
+            nextCursor = encodeCursor(last.getCreatedAt(), last.getId());
+        }
+
+        return ReviewSearchResponseDto.builder()
+                .items(pageItems.stream()
+                        .map(ReviewBoardResponseDto::of)
+                        .map(reviewViewCounter::overlay)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    private static String encodeCursor(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            LocalDateTime.parse(parts[0]);
+            Long.parseLong(parts[1]);
+            return parts;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서 값입니다: " + cursor);
+        }
+    }
+
+    private static boolean hasText(String value) {
+        return value != null && !value.trim().isEmpty();
+    }
 
-        return boardPage.map(ReviewBoardResponseDto::of);
+    private static String trimToNull(String value) {
+        return hasText(value) ? value.trim() : null;
     }
 
     // -----------------------------------------------------------------
@@ -91,12 +226,12 @@ public class ReviewBoardService {
     @Transactional
     public ReviewBoardResponseDto updatePost(Long id, String loginUserId, ReviewBoardRequestDto requestDto) {
 
-        // 1. 게시글 조회 (없으면 예외)
-        ReviewBoard board = reviewBoardRepository.findById(id)
+        // 1. 게시글 조회 (없으면 예외) - 응답에 닉네임이 필요하므로 작성자를 함께 조회
+        ReviewBoard board = reviewBoardRepository.findWithUserById(id)
                 .orElseThrow(() -> new RuntimeException("수정할 게시글을 찾을 수 없습니다. (ID: " + id + ")"));
 
         // 2. 권한 확인 (작성자 또는 관리자)
-        checkAuthorization(board, loginUserId);
+        checkAuthorization(board.getUser().getLoginUserId(), loginUserId);
 
         // 3. Entity 수정
         board.updatePost(
@@ -104,6 +239,7 @@ public class ReviewBoardService {
                 requestDto.getContent(),
                 requestDto.getRegion()
         );
+        eventPublisher.publishEvent(new ReviewChangedEvent(id, ReviewChangedEvent.Type.UPDATED));
 
         return ReviewBoardResponseDto.of(board);
     }
@@ -114,14 +250,17 @@ public class ReviewBoardService {
     @Transactional
     public void deletePost(Long id, String loginUserId) {
 
-        // 1. 게시글 조회 (없으면 예외)
-        ReviewBoard board = reviewBoardRepository.findById(id)
+        // 1. 작성자 로그인 ID만 프로젝션으로 조회 (없으면 예외)
+        ReviewOwnerView owner = reviewBoardRepository.findOwnerById(id)
                 .orElseThrow(() -> new RuntimeException("삭제할 게시글을 찾을 수 없습니다. (ID: " + id + ")"));
 
         // 2. 권한 확인 (작성자 또는 관리자)
-        checkAuthorization(board, loginUserId);
+        checkAuthorization(owner.getAuthorLoginUserId(), loginUserId);
 
-        // 3. DB에서 게시글 삭제
-        reviewBoardRepository.delete(board);
+        // 3. 댓글 -> 게시글 순서로 bulk DELETE (댓글 엔티티를 로딩하지 않습니다.)
+        commentRepository.deleteAllByReviewIdIn(List.of(id));
+        reviewBoardRepository.deleteAllByIdIn(List.of(id));
+        reviewSpotStatsService.recompute(List.of(owner.getSpotContentId()));
+        eventPublisher.publishEvent(new ReviewChangedEvent(id, ReviewChangedEvent.Type.DELETED));
     }
 }
\ No newline at end of file
@@ -0,0 +1,116 @@
+package com.example.webserver.review.service;
+
+import com.example.webserver.review.dto.response.SpotReviewSummaryDto;
+import com.example.webserver.review.repository.ReviewSpotStatsRepository;
+import com.example.webserver.review.repository.SpotReviewSummaryRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 여행지별 리뷰 집계(review_spot_stats)를 관리하고 조회합니다.
+ * 집계는 리뷰 생성/삭제와 같은 트랜잭션에서 증분 갱신됩니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ReviewSpotStatsService {
+
+    public static final int MAX_SPOTS_PER_REQUEST = 100;
+    public static final int MAX_RECENT_REVIEWS = 10;
+
+    private final ReviewSpotStatsRepository reviewSpotStatsRepository;
+
+    // ------------------- 집계 갱신 -------------------
+
+    /** 리뷰 생성 시 호출: 해당 여행지의 리뷰 수를 1 증가시킵니다. */
+    @Transactional
+    public void onReviewCreated(String spotContentId, LocalDateTime createdAt) {
+        reviewSpotStatsRepository.incrementReviewCount(spotContentId, createdAt);
+    }
+
+    /**
+     * 리뷰 삭제 후 호출: 주어진 여행지들의 집계를 리뷰 테이블 기준으로 다시 계산합니다.
+     * (삭제된 리뷰가 최신 리뷰였을 수 있으므로 단순 감소 대신 재계산합니다.)
+     */
+    @Transactional
+    public void recompute(Collection<String> spotContentIds) {
+        if (spotContentIds.isEmpty()) {
+            return;
+        }
+        // 행을 먼저 잠가, 재계산과 동시에 커밋되는 리뷰 생성의 증가분이 덮어써지지 않게 합니다.
+        reviewSpotStatsRepository.insertMissing(spotContentIds);
+        reviewSpotStatsRepository.lockForRecompute(spotContentIds);
+        reviewSpotStatsRepository.upsertRecomputed(spotContentIds);
+        reviewSpotStatsRepository.deleteEmpty(spotContentIds);
+    }
+
+    // ------------------- 조회 -------------------
+
+    /**
+     * 여러 여행지의 리뷰 요약을 한 번에 조회합니다. 요청한 순서대로, 리뷰가 없는 여행지도 0건으로 포함합니다.
+     */
+    public List<SpotReviewSummaryDto> getSummaries(List<String> spotContentIds, int recentLimit) {
+        Set<String> ids = new LinkedHashSet<>();
+        for (String id : spotContentIds) {
+            if (id != null && !id.trim().isEmpty()) {
+                ids.add(id.trim());
+            }
+        }
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (ids.size() > MAX_SPOTS_PER_REQUEST) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 여행지는 최대 " + MAX_SPOTS_PER_REQUEST + "개입니다.");
+        }
+        int limit = Math.max(0, Math.min(recentLimit, MAX_RECENT_REVIEWS));
+
+        // 1. 한 번의 쿼리로 (집계 + 최근 리뷰) 행을 조회한 뒤 여행지별로 묶습니다.
+        Map<String, SpotReviewSummaryDto.SpotReviewSummaryDtoBuilder> builders = new LinkedHashMap<>();
+        Map<String, List<SpotReviewSummaryDto.RecentReview>> recentBySpot = new LinkedHashMap<>();
+
+        for (SpotReviewSummaryRow row : reviewSpotStatsRepository.findSummaries(ids, Math.max(limit, 1))) {
+            builders.computeIfAbsent(row.getSpotContentId(), id -> SpotReviewSummaryDto.builder()
+                    .spotContentId(id)
+                    .spotTitle(row.getSpotTitle())
+                    .reviewCount(row.getReviewCount())
+                    .latestReviewAt(row.getLatestReviewAt()));
+
+            List<SpotReviewSummaryDto.RecentReview> recent =
+                    recentBySpot.computeIfAbsent(row.getSpotContentId(), id -> new ArrayList<>());
+            if (row.getReviewId() != null && recent.size() < limit) {
+                recent.add(SpotReviewSummaryDto.RecentReview.builder()
+                        .reviewId(row.getReviewId())
+                        .title(row.getReviewTitle())
+                        .nickname(row.getNickname())
+                        .createdAt(row.getReviewCreatedAt())
+                        .build());
+            }
+        }
+
+        // 2. 요청 순서대로 결과 구성 (집계가 없는 여행지는 0건)
+        List<SpotReviewSummaryDto> result = new ArrayList<>();
+        for (String id : ids) {
+            SpotReviewSummaryDto.SpotReviewSummaryDtoBuilder builder = builders.get(id);
+            if (builder == null) {
+                result.add(SpotReviewSummaryDto.builder()
+                        .spotContentId(id)
+                        .reviewCount(0)
+                        .recentReviews(new ArrayList<>())
+                        .build());
+            } else {
+                result.add(builder.recentReviews(recentBySpot.get(id)).build());
+            }
+        }
+        return result;
+    }
+}
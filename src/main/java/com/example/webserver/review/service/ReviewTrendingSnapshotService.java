@@ -0,0 +1,79 @@
+package com.example.webserver.review.service;
+
+import com.example.webserver.review.cache.TrendingReviewTracker;
+import com.example.webserver.review.entity.ReviewTrendingSnapshot;
+import com.example.webserver.review.repository.ReviewTrendingSnapshotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 인기 리뷰 메모리 집계를 주기적으로 테이블에 저장하고, 서버 시작 시 복원합니다.
+ */
+@Slf4j
+@Service
+public class ReviewTrendingSnapshotService {
+
+    private final TrendingReviewTracker trendingReviewTracker;
+    private final ReviewTrendingSnapshotRepository snapshotRepository;
+    private final int snapshotSize;
+    // 복원 전에 저장하면 기존 스냅샷을 빈 집계로 덮어쓰므로, 복원이 끝난 뒤에만 저장합니다.
+    private volatile boolean restored = false;
+
+    public ReviewTrendingSnapshotService(TrendingReviewTracker trendingReviewTracker,
+                                         ReviewTrendingSnapshotRepository snapshotRepository,
+                                         @Value("${review.trending.snapshot-size:1000}") int snapshotSize) {
+        this.trendingReviewTracker = trendingReviewTracker;
+        this.snapshotRepository = snapshotRepository;
+        this.snapshotSize = snapshotSize;
+    }
+
+    /** 현재 점수 상위 snapshotSize개로 스냅샷 테이블을 교체합니다. */
+    @Scheduled(fixedDelayString = "${review.trending.snapshot-interval-ms:300000}",
+            initialDelayString = "${review.trending.snapshot-interval-ms:300000}")
+    @Transactional
+    public void saveSnapshot() {
+        if (!restored) {
+            return;
+        }
+        List<Map.Entry<Long, Double>> entries = trendingReviewTracker.currentScores(snapshotSize);
+        LocalDateTime now = LocalDateTime.now();
+
+        snapshotRepository.deleteAllRows();
+        for (Map.Entry<Long, Double> entry : entries) {
+            snapshotRepository.insertRow(entry.getKey(), entry.getValue(), now);
+        }
+        log.debug("Saved trending snapshot of {} reviews", entries.size());
+    }
+
+    /** 종료 직전에 마지막 집계를 저장합니다. */
+    @EventListener(ContextClosedEvent.class)
+    @Transactional
+    public void saveSnapshotOnShutdown() {
+        saveSnapshot();
+    }
+
+    /** 저장된 점수를 스냅샷 시각의 가중치로 되살립니다. (이후 경과 시간만큼 자연히 감쇠됨) */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void restoreSnapshot() {
+        List<ReviewTrendingSnapshot> rows = snapshotRepository.findAll();
+        for (ReviewTrendingSnapshot row : rows) {
+            long snapshotMillis = row.getSnapshotAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            trendingReviewTracker.record(row.getReviewId(), row.getScore(), snapshotMillis);
+        }
+        trendingReviewTracker.refresh();
+        restored = true;
+        log.info("Restored trending scores for {} reviews", rows.size());
+    }
+}
@@ -0,0 +1,255 @@
+package com.example.webserver.review.stream;
+
+import com.example.webserver.review.event.CommentChangedEvent;
+import com.example.webserver.review.event.ReviewChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 리뷰별 댓글 변경을 SSE 구독자에게 전달하는 프로세스 내 fan-out 허브.
+ *
+ * 이벤트 발행 스레드(트랜잭션 커밋 직후)는 구독자별 고정 크기 큐에 넣기만 하고 바로 반환하며,
+ * 실제 전송은 별도 drain 스레드 풀이 구독자마다 최대 한 작업씩 처리합니다.
+ * 큐가 가득 찬(느린) 구독자는 연결을 끊습니다. 소켓 쓰기에 막힌 전송은 Tomcat의 쓰기 타임아웃
+ * (server.tomcat.connection-timeout)이 지나면 IOException으로 끝나므로, drain 스레드를 그 이상 붙잡지 않습니다.
+ * emitter의 send/complete는 같은 락을 쓰므로 연결 종료(complete)도 발행 스레드가 아닌 drain 스레드에서만 합니다.
+ * 클라이언트(EventSource)는 자동 재연결 후
+ * 댓글 목록을 다시 조회(조건부 GET)하면 빠진 변경 없이 동기화됩니다.
+ */
+@Slf4j
+@Component
+public class CommentStreamHub {
+
+    private final Map<Long, Set<Subscriber>> subscribersByReview = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final ExecutorService drainExecutor;
+    private final Counter droppedSubscribers;
+
+    private final int bufferSize;
+    private final int maxSubscribers;
+    private final long emitterTimeoutMillis;
+
+    public CommentStreamHub(MeterRegistry meterRegistry,
+                            @Value("${review.comment-stream.buffer-size:32}") int bufferSize,
+                            @Value("${review.comment-stream.max-subscribers:5000}") int maxSubscribers,
+                            @Value("${review.comment-stream.timeout:30m}") Duration emitterTimeout,
+                            @Value("${review.comment-stream.drain-threads:4}") int drainThreads) {
+        this.bufferSize = bufferSize;
+        this.maxSubscribers = maxSubscribers;
+        this.emitterTimeoutMillis = emitterTimeout.toMillis();
+
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.drainExecutor = Executors.newFixedThreadPool(drainThreads, runnable -> {
+            Thread thread = new Thread(runnable, "comment-stream-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Gauge.builder("review.comment.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .register(meterRegistry);
+        this.droppedSubscribers = Counter.builder("review.comment.stream.dropped")
+                .description("큐가 가득 차 연결이 끊긴 느린 구독자 수")
+                .register(meterRegistry);
+    }
+
+    // -----------------------------------------------------------------
+    // 구독
+    // -----------------------------------------------------------------
+
+    /**
+     * 리뷰의 댓글 변경 스트림을 구독합니다.
+     * @throws IllegalStateException 동시 구독자 수 상한을 넘은 경우
+     */
+    public SseEmitter subscribe(Long reviewId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new IllegalStateException("동시 구독자 수가 너무 많습니다.");
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(reviewId, emitter, new ArrayBlockingQueue<>(bufferSize));
+        subscribersByReview.compute(reviewId, (id, subscribers) -> {
+            Set<Subscriber> target = subscribers != null ? subscribers : ConcurrentHashMap.newKeySet();
+            target.add(subscriber);
+            return target;
+        });
+
+        // 이미 끝난 emitter는 drain 스레드가 다시 complete하지 않도록 표시합니다.
+        emitter.onCompletion(() -> markCompleted(subscriber));
+        emitter.onTimeout(() -> markCompleted(subscriber));
+        emitter.onError(e -> markCompleted(subscriber));
+
+        // 연결 직후 응답 헤더가 바로 전송되도록 준비 이벤트를 보냅니다.
+        offer(subscriber, SseEmitter.event().name("ready").data(reviewId).build());
+        return emitter;
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        subscriberCount.decrementAndGet();
+        subscribersByReview.computeIfPresent(subscriber.reviewId, (id, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        subscriber.queue.clear();
+    }
+
+    private void markCompleted(Subscriber subscriber) {
+        subscriber.completed.set(true);
+        remove(subscriber);
+    }
+
+    /**
+     * 구독을 끊고, emitter 종료는 drain 스레드에 맡깁니다.
+     * (전송이 막힌 구독자의 complete()는 send()의 락을 기다리므로 발행/스케줄러 스레드에서 호출하지 않습니다.)
+     */
+    private void close(Subscriber subscriber) {
+        remove(subscriber);
+        scheduleDrain(subscriber);
+    }
+
+    // -----------------------------------------------------------------
+    // 발행 (커밋 이후)
+    // -----------------------------------------------------------------
+
+    @TransactionalEventListener
+    public void onCommentChanged(CommentChangedEvent event) {
+        Set<Subscriber> subscribers = subscribersByReview.get(event.getReviewId());
+        if (subscribers == null) {
+            return;
+        }
+
+        // 메시지는 한 번만 만들어 모든 구독자가 공유합니다. (SseEventBuilder.build()는 재호출하면 안 됨)
+        Set<DataWithMediaType> message = SseEmitter.event()
+                .id(String.valueOf(event.getCommentId()))
+                .name(event.getType().name().toLowerCase())
+                .data(event.getComment() != null ? event.getComment() : Map.of("commentId", event.getCommentId()))
+                .build();
+
+        for (Subscriber subscriber : subscribers) {
+            offer(subscriber, message);
+        }
+    }
+
+    /** 리뷰가 삭제되면 해당 리뷰의 구독을 모두 종료합니다. */
+    @TransactionalEventListener
+    public void onReviewChanged(ReviewChangedEvent event) {
+        if (event.getType() != ReviewChangedEvent.Type.DELETED) {
+            return;
+        }
+        Set<Subscriber> subscribers = subscribersByReview.get(event.getReviewId());
+        if (subscribers != null) {
+            subscribers.forEach(this::close);
+        }
+    }
+
+    /** 프록시/로드밸런서의 유휴 연결 종료를 막고, 끊어진 클라이언트를 감지하기 위한 주기적 하트비트 */
+    @Scheduled(fixedDelayString = "${review.comment-stream.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        Set<DataWithMediaType> keepalive = SseEmitter.event().comment("keepalive").build();
+        for (Set<Subscriber> subscribers : subscribersByReview.values()) {
+            for (Subscriber subscriber : subscribers) {
+                offer(subscriber, keepalive);
+            }
+        }
+    }
+
+    // -----------------------------------------------------------------
+    // 큐잉 / 전송
+    // -----------------------------------------------------------------
+
+    private void offer(Subscriber subscriber, Set<DataWithMediaType> message) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+        if (!subscriber.queue.offer(message)) {
+            // 느린 구독자: 버퍼가 가득 차면 연결을 끊습니다. (발행 스레드는 절대 대기하지 않음)
+            droppedSubscribers.increment();
+            log.debug("Dropping slow comment stream subscriber of review {}", subscriber.reviewId);
+            close(subscriber);
+            return;
+        }
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                drainExecutor.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            Set<DataWithMediaType> message;
+            while (!subscriber.closed.get() && (message = subscriber.queue.poll()) != null) {
+                subscriber.emitter.send(message);
+            }
+            if (subscriber.closed.get() && subscriber.completed.compareAndSet(false, true)) {
+                subscriber.emitter.complete();
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결 종료, 쓰기 타임아웃 또는 이미 완료된 emitter
+            remove(subscriber);
+            if (subscriber.completed.compareAndSet(false, true)) {
+                subscriber.emitter.completeWithError(e);
+            }
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // drain 종료 직전에 들어온 메시지나 종료 요청이 있으면 다시 예약합니다.
+        boolean pending = subscriber.closed.get() ? !subscriber.completed.get() : !subscriber.queue.isEmpty();
+        if (pending) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 이미 예약된 종료 작업은 shutdown() 이후에도 실행됩니다.
+        subscribersByReview.values().forEach(subscribers -> subscribers.forEach(this::close));
+        drainExecutor.shutdown();
+    }
+
+    private static final class Subscriber {
+        private final Long reviewId;
+        private final SseEmitter emitter;
+        private final Queue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean(false);
+        private final AtomicBoolean closed = new AtomicBoolean(false);
+        private final AtomicBoolean completed = new AtomicBoolean(false);
+
+        private Subscriber(Long reviewId, SseEmitter emitter, Queue<Set<DataWithMediaType>> queue) {
+            this.reviewId = reviewId;
+            this.emitter = emitter;
+            this.queue = queue;
+        }
+    }
+}
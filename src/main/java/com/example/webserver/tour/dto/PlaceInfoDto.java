@@ -0,0 +1,54 @@
+package com.example.webserver.tour.dto;
+
+import com.example.webserver.tour.entity.TourItem;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 여행 일정 보강용 장소 정보 (지도 표시에 필요한 좌표/이미지/분류)
+ * tour_item 테이블 또는 detailCommon2 응답에서 만들어집니다.
+ */
+@Getter
+@Builder
+public class PlaceInfoDto {
+    private String contentId;
+    private String contentTypeId;
+    private String title;
+    private String address;
+    private Double mapx; // 경도
+    private Double mapy; // 위도
+    private String firstImage;
+    private String cat1;
+    private String cat2;
+    private String cat3;
+
+    public static PlaceInfoDto of(TourItem item) {
+        return PlaceInfoDto.builder()
+                .contentId(item.getContentId())
+                .contentTypeId(item.getContentTypeId())
+                .title(item.getTitle())
+                .address(item.getAddress())
+                .mapx(item.getMapx())
+                .mapy(item.getMapy())
+                .firstImage(item.getFirstImage())
+                .cat1(item.getCat1())
+                .cat2(item.getCat2())
+                .cat3(item.getCat3())
+                .build();
+    }
+
+    public static PlaceInfoDto of(String contentId, TourItemDto item) {
+        return PlaceInfoDto.builder()
+                .contentId(contentId)
+                .contentTypeId(item.getContentTypeId())
+                .title(item.getTitle())
+                .address(item.getAddress())
+                .mapx(item.getMapx())
+                .mapy(item.getMapy())
+                .firstImage(item.getFirstImage())
+                .cat1(item.getCat1())
+                .cat2(item.getCat2())
+                .cat3(item.getCat3())
+                .build();
+    }
+}
@@ -1,6 +1,13 @@
 package com.example.webserver.tour.dto;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -12,9 +19,11 @@ import org.springframework.http.MediaType;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.io.UnsupportedEncodingException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * 콘텐츠 ID 기반 관광지 상세 정보를 조회하는 서비스입니다.
@@ -36,9 +45,20 @@ public class TourDetailCommon {
     @Value("${api.tour.data-type}")
     private String dataType;
 
-    public TourDetailCommon(WebClient tourApiWebClient, ObjectMapper objectMapper) {
+    // contentId -> detailCommon2 원시 응답 (상세 조회 API와 여행 일정 보강이 함께 사용)
+    private final Cache<String, String> detailCache;
+
+    public TourDetailCommon(WebClient tourApiWebClient, ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                            @Value("${tour.detail-cache.max-size:5000}") long detailCacheMaxSize,
+                            @Value("${tour.detail-cache.ttl:6h}") Duration detailCacheTtl) {
         this.tourApiWebClient = tourApiWebClient;
         this.objectMapper = objectMapper;
+        this.detailCache = Caffeine.newBuilder()
+                .maximumSize(detailCacheMaxSize)
+                .expireAfterWrite(detailCacheTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, detailCache, "tour.detail");
     }
 
     // --------------------------------------------------------------------------------
@@ -57,9 +77,67 @@ public class TourDetailCommon {
         params.put("pageNo", "1"); // 페이지 번호 1로 고정
         params.put("numOfRows", "1"); // 한 개의 데이터만 요청
 
+        // 캐시에 있으면 외부 API를 호출하지 않습니다.
+        String cached = detailCache.getIfPresent(contentId);
+        if (cached != null) {
+            return cached;
+        }
+
         // ⬅️ callApiInternal이 반환하는 Mono<String>에 .block()을 적용하여 String을 동기적으로 추출합니다.
         // 이는 Servlet 환경에서 WebClient를 사용할 때의 표준 패턴입니다.
-        return callApiInternal(API_SERVICE_PATH, params).block();
+        String response = callApiInternal(API_SERVICE_PATH, params).block();
+        if (response != null && parseItem(response).isPresent()) {
+            detailCache.put(contentId, response);
+        }
+        return response;
+    }
+
+    // --------------------------------------------------------------------------------
+    // 1-1. 파싱된 단일 항목 조회 (여행 일정 보강용)
+    // --------------------------------------------------------------------------------
+
+    /** 캐시에 있는 상세 정보만 조회합니다. (외부 API 호출 없음) */
+    public Optional<TourItemDto> findCachedItem(String contentId) {
+        String cached = detailCache.getIfPresent(contentId);
+        return cached == null ? Optional.empty() : parseItem(cached);
+    }
+
+    /**
+     * 외부 API로 상세 정보를 비동기 조회하고 캐시에 저장합니다. (항목이 없으면 빈 Mono)
+     * 여러 건을 동시에 조회할 때 호출하는 쪽에서 동시성 상한을 정합니다.
+     */
+    public Mono<TourItemDto> fetchItem(String contentId) {
+        Map<String, String> params = new HashMap<>();
+        params.put("contentId", contentId);
+        params.put("pageNo", "1");
+        params.put("numOfRows", "1");
+
+        return callApiInternal(API_SERVICE_PATH, params)
+                .flatMap(response -> {
+                    Optional<TourItemDto> item = parseItem(response);
+                    item.ifPresent(found -> detailCache.put(contentId, response));
+                    return Mono.justOrEmpty(item);
+                });
+    }
+
+    /** detailCommon2 응답(response.body.items.item)에서 첫 항목을 꺼냅니다. */
+    private Optional<TourItemDto> parseItem(String response) {
+        try {
+            JsonNode item = objectMapper.readTree(response)
+                    .path("response").path("body").path("items").path("item");
+            if (item.isArray()) {
+                item = item.path(0);
+            }
+            if (!item.isObject()) {
+                return Optional.empty();
+            }
+            // overview는 긴 설명 문자열이라 TourItemDto(Integer)에 매핑하지 않습니다.
+            ((ObjectNode) item).remove("overview");
+            return Optional.of(objectMapper.treeToValue(item, TourItemDto.class));
+        } catch (JsonProcessingException e) {
+            log.warn("detailCommon2 응답 파싱 실패: {}", e.getMessage());
+            return Optional.empty();
+        }
     }
 
     // --------------------------------------------------------------------------------
@@ -39,6 +39,21 @@ public class TourItemDto {
     @JsonProperty("firstimage2")
     private String firstImage2; // 대표 이미지 URL (대형)
 
+    @JsonProperty("cat1")
+    private String cat1; // 대분류
+
+    @JsonProperty("cat2")
+    private String cat2; // 중분류
+
+    @JsonProperty("cat3")
+    private String cat3; // 소분류
+
+    @JsonProperty("mapx")
+    private Double mapx; // X좌표 (경도, API는 문자열로 응답)
+
+    @JsonProperty("mapy")
+    private Double mapy; // Y좌표 (위도)
+
     // --- 4. 기타 정보 ---
     @JsonProperty("readcount")
     private Integer readCount; // 조회수 (정렬 기준 'R'에서 사용)
@@ -0,0 +1,100 @@
+package com.example.webserver.tour.service;
+
+import com.example.webserver.tour.dto.PlaceInfoDto;
+import com.example.webserver.tour.dto.TourDetailCommon;
+import com.example.webserver.tour.repository.TourItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 콘텐츠 ID 목록을 장소 정보(좌표/이미지/분류)로 일괄 변환합니다.
+ *
+ * 1. tour_item 테이블을 IN 쿼리 한 번으로 조회
+ * 2. 테이블에 없는 ID는 상세 조회 캐시(detailCommon2)에서 찾고
+ * 3. 그래도 없는 ID만 외부 API를 동시성 상한을 두고 병렬로 조회합니다.
+ * 조회에 실패한 ID와, 전체 대기 시간(fetch-total-timeout) 안에 끝나지 않은 ID는 결과에서 빠집니다.
+ */
+@Slf4j
+@Service
+public class PlaceInfoService {
+
+    private final TourItemRepository tourItemRepository;
+    private final TourDetailCommon tourDetailCommon;
+    private final int fetchConcurrency;
+    private final Duration fetchTimeout;
+    private final Duration fetchTotalTimeout;
+
+    public PlaceInfoService(TourItemRepository tourItemRepository,
+                            TourDetailCommon tourDetailCommon,
+                            @Value("${tour.place-info.fetch-concurrency:4}") int fetchConcurrency,
+                            @Value("${tour.place-info.fetch-timeout:3s}") Duration fetchTimeout,
+                            @Value("${tour.place-info.fetch-total-timeout:5s}") Duration fetchTotalTimeout) {
+        this.tourItemRepository = tourItemRepository;
+        this.tourDetailCommon = tourDetailCommon;
+        this.fetchConcurrency = fetchConcurrency;
+        this.fetchTimeout = fetchTimeout;
+        this.fetchTotalTimeout = fetchTotalTimeout;
+    }
+
+    public Map<String, PlaceInfoDto> resolve(Collection<String> contentIds) {
+        Set<String> ids = new LinkedHashSet<>();
+        for (String id : contentIds) {
+            if (id != null && !id.isBlank()) {
+                ids.add(id);
+            }
+        }
+        Map<String, PlaceInfoDto> result = new HashMap<>();
+        if (ids.isEmpty()) {
+            return result;
+        }
+
+        // 1. tour_item 일괄 조회
+        tourItemRepository.findAllById(ids)
+                .forEach(item -> result.put(item.getContentId(), PlaceInfoDto.of(item)));
+
+        // 2. 상세 조회 캐시
+        List<String> misses = new ArrayList<>();
+        for (String id : ids) {
+            if (!result.containsKey(id)) {
+                tourDetailCommon.findCachedItem(id).ifPresentOrElse(
+                        item -> result.put(id, PlaceInfoDto.of(id, item)),
+                        () -> misses.add(id));
+            }
+        }
+
+        // 3. 남은 ID만 외부 API 병렬 조회 (동시 요청 수 제한, 건별 타임아웃)
+        // 요청 스레드가 기다리는 전체 시간도 제한하며, 그때까지 받은 결과만 사용합니다. (나머지 요청은 취소)
+        if (!misses.isEmpty()) {
+            Map<String, PlaceInfoDto> fetched = Flux.fromIterable(misses)
+                    .flatMap(id -> tourDetailCommon.fetchItem(id)
+                                    .timeout(fetchTimeout)
+                                    .map(item -> PlaceInfoDto.of(id, item))
+                                    .onErrorResume(e -> {
+                                        log.warn("장소 정보 조회 실패 (contentId: {}): {}", id, e.getMessage());
+                                        return Mono.empty();
+                                    }),
+                            fetchConcurrency)
+                    .take(fetchTotalTimeout)
+                    .collectMap(PlaceInfoDto::getContentId)
+                    .block();
+            if (fetched != null) {
+                result.putAll(fetched);
+            }
+            log.debug("Resolved {} places ({} of {} fetched from Tour API)", result.size(),
+                    fetched != null ? fetched.size() : 0, misses.size());
+        }
+        return result;
+    }
+}
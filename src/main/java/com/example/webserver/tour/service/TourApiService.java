@@ -142,8 +142,9 @@ public class TourApiService {
 
     /**
      * 수정됨: 지역별 균형 배분 후, 남은 슬롯을 전체 목록 상위 아이템으로 채워 총 30개를 반환합니다.
+     * (외부 호출 없는 순수 파싱/배분 단계라 벤치마크에서 직접 호출할 수 있도록 package-private)
      */
-    private List<TourItemDto> parseCombineAndLimit(List<String> rawResponses, int limit) {
+    List<TourItemDto> parseCombineAndLimit(List<String> rawResponses, int limit) {
 
         // 1. 모든 응답을 파싱하여 통합 리스트 (allItems) 생성 (이전과 동일)
         List<TourItemDto> allItems = rawResponses.stream()
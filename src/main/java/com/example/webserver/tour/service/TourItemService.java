@@ -35,16 +35,22 @@ public class TourItemService {
             return tourItemRepository.findAll();
         }
 
-        // [변경 포인트] OR 조건 정규식 생성
-        // 1. 각 태그에 #을 붙임 (DB에 #태그 형태로 저장되어 있다고 가정 시, 부분 일치 방지)
-        // 2. 파이프(|)로 연결하여 하나라도 일치하면 검색되도록 함
-        // 예: [힐링, 바다] -> "#힐링|#바다"
-        String regex = tags.stream()
-                .map(tag -> "#" + tag.trim())
-                .collect(Collectors.joining("|"));
+        String regex = buildTagRegex(tags);
 
-        // 3. Repository 호출
+        // Repository 호출
         // (Repository 메서드 이름이 findByTagsAnd 여도, 넘어가는 regex가 OR 연산이므로 결과는 OR로 나옵니다)
         return tourItemRepository.findByTagsAnd(regex);
     }
+
+    /**
+     * [변경 포인트] OR 조건 정규식 생성
+     * 1. 각 태그에 #을 붙임 (DB에 #태그 형태로 저장되어 있다고 가정 시, 부분 일치 방지)
+     * 2. 파이프(|)로 연결하여 하나라도 일치하면 검색되도록 함
+     * 예: [힐링, 바다] -> "#힐링|#바다"
+     */
+    static String buildTagRegex(List<String> tags) {
+        return tags.stream()
+                .map(tag -> "#" + tag.trim())
+                .collect(Collectors.joining("|"));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.example.webserver.travel.cache;
+
+import com.example.webserver.travel.event.TripChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 공유 링크로 조회되는 여행 상세(TripResponse)를 직렬화된 JSON 바이트로 담아두는 캐시.
+ * 캐시 적중 시 DB 조회와 JSON 직렬화 없이 그대로 응답합니다.
+ * 여행 수정/삭제 이벤트를 트랜잭션 커밋 이후에 받아 무효화합니다.
+ * (적재 중인 키를 무효화하면 적재가 끝난 뒤 제거되므로, 커밋 전 데이터가 남지 않습니다.)
+ */
+@Component
+public class TripViewCache {
+
+    /** 캐시 항목: 여행 버전(ETag)과 직렬화된 TripResponse */
+    public record Entry(Long version, byte[] json) {
+    }
+
+    private final Cache<Long, Entry> cache;
+
+    public TripViewCache(MeterRegistry meterRegistry,
+                         @Value("${trip.cache.max-size:5000}") long maxSize,
+                         @Value("${trip.cache.ttl:10m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "trip.view");
+    }
+
+    /** 캐시에서 찾고, 없으면 loader로 적재합니다. (loader의 예외는 그대로 전파되며 캐시되지 않습니다.) */
+    public Entry get(Long tripId, Function<Long, Entry> loader) {
+        return cache.get(tripId, loader);
+    }
+
+    @TransactionalEventListener
+    public void onTripChanged(TripChangedEvent event) {
+        cache.invalidate(event.getTripId());
+    }
+}
@@ -1,14 +1,23 @@
 package com.example.webserver.travel.controller;
 
 // import com.example.webserver.auth.entity.User; // ✨ 캐스팅 오류 방지를 위해 삭제
+import com.example.webserver.travel.dto.EnrichedTripResponse;
+import com.example.webserver.travel.dto.RouteSuggestionResponse;
 import com.example.webserver.travel.dto.TripRequest;
 import com.example.webserver.travel.dto.TripResponse;
+import com.example.webserver.travel.dto.TripSummaryResponse;
+import com.example.webserver.travel.service.TripRouteService;
 import com.example.webserver.travel.service.TripService;
 import lombok.RequiredArgsConstructor;
+import com.example.webserver.travel.exception.TripVersionConflictException;
+import com.example.webserver.travel.cache.TripViewCache;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -18,6 +27,7 @@ import java.util.List;
 public class TripController {
 
     private final TripService tripService;
+    private final TripRouteService tripRouteService;
 
     /**
      * 현재 로그인된 사용자의 ID (loginUserId, String)를 추출하는 헬퍼 메서드
@@ -49,19 +59,55 @@ public class TripController {
         // ✨ 문자열 ID 추출
         String loginUserId = getLoginUserId(userDetails);
 
-        // Service에서 String ID를 받아 DB에서 사용자 PK를 찾아 조회
+        // 로그인 ID로 바로 필터링하여 조회 (사용자 PK 조회 없음)
         List<TripResponse> trips = tripService.getMyTrips(loginUserId);
         return ResponseEntity.ok(trips);
     }
 
+    // 내 여행 요약 조회 (일정 개수/첫 장소만 포함하는 가벼운 목록)
+    @GetMapping("/summary")
+    public ResponseEntity<List<TripSummaryResponse>> getMyTripSummaries(
+            @AuthenticationPrincipal UserDetails userDetails
+    ) {
+        String loginUserId = getLoginUserId(userDetails);
+        return ResponseEntity.ok(tripService.getMyTripSummaries(loginUserId));
+    }
+
     // 상세 조회 (권한 체크를 Service에서만 하도록 단순화)
+    // 공유 링크로 자주 조회되므로 직렬화된 응답을 캐시에서 그대로 내려주고, 버전을 ETag로 사용합니다.
     @GetMapping("/{id}")
-    public ResponseEntity<TripResponse> getTrip(@PathVariable Long id) {
-        TripResponse response = tripService.getTrip(id);
-        return ResponseEntity.ok(response);
+    public ResponseEntity<byte[]> getTrip(@PathVariable Long id, WebRequest webRequest) {
+        TripViewCache.Entry view = tripService.getTripView(id);
+        String eTag = "\"" + view.version() + "\"";
+        if (webRequest.checkNotModified(eTag)) {
+            return null; // 304 Not Modified
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(eTag)
+                .body(view.json());
+    }
+
+    // 상세 조회 + 장소 정보 (지도 표시용 좌표/이미지/분류 포함)
+    @GetMapping("/{id}/enriched")
+    public ResponseEntity<EnrichedTripResponse> getEnrichedTrip(@PathVariable Long id) {
+        return ResponseEntity.ok(tripService.getEnrichedTrip(id));
+    }
+
+    // 하루 일정 추천 방문 순서 (이동 거리 기준 경로 최적화)
+    @GetMapping("/{id}/days/{day}/route")
+    public ResponseEntity<RouteSuggestionResponse> suggestDayRoute(@PathVariable Long id, @PathVariable Integer day) {
+        try {
+            return ResponseEntity.ok(tripRouteService.suggestDayRoute(id, day));
+        } catch (IllegalArgumentException e) {
+            // 여행 없음 또는 최대 일정 수 초과
+            return ResponseEntity.badRequest().build();
+        }
     }
 
     // 수정 (권한 체크를 위해 String ID 전달)
+    // 요청 본문의 version이 현재 버전과 다르면 409 Conflict (본문에 currentVersion 포함)
+    // 성공 시 새 버전을 ETag 헤더로 돌려줍니다.
     @PutMapping("/{id}")
     public ResponseEntity<String> updateTrip(
             @PathVariable Long id,
@@ -69,9 +115,16 @@ public class TripController {
             @AuthenticationPrincipal UserDetails userDetails
     ) {
         String loginUserId = getLoginUserId(userDetails);
-        // Service 메서드 시그니처 변경 필요: updateTrip(Long id, TripRequest request, String loginUserId)
-        tripService.updateTrip(id, request, loginUserId);
-        return ResponseEntity.ok("수정 완료");
+        try {
+            // Service 메서드 시그니처 변경 필요: updateTrip(Long id, TripRequest request, String loginUserId)
+            tripService.updateTrip(id, request, loginUserId);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // 버전 확인 이후 커밋 직전에 다른 수정이 먼저 커밋된 경우
+            throw new TripVersionConflictException(id, tripService.getTripVersion(id));
+        }
+        return ResponseEntity.ok()
+                .eTag("\"" + tripService.getTripVersion(id) + "\"")
+                .body("수정 완료");
     }
 
     // 삭제 (권한 체크를 위해 String ID 전달)
@@ -81,8 +134,13 @@ public class TripController {
             @AuthenticationPrincipal UserDetails userDetails
     ) {
         String loginUserId = getLoginUserId(userDetails);
-        // Service 메서드 시그니처 변경 필요: deleteTrip(Long id, String loginUserId)
-        tripService.deleteTrip(id, loginUserId);
+        try {
+            // Service 메서드 시그니처 변경 필요: deleteTrip(Long id, String loginUserId)
+            tripService.deleteTrip(id, loginUserId);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // 삭제 도중 다른 기기의 수정이 먼저 커밋된 경우
+            throw new TripVersionConflictException(id, tripService.getTripVersion(id));
+        }
         return ResponseEntity.ok("삭제 완료");
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,50 @@
+package com.example.webserver.travel.dto;
+
+import com.example.webserver.tour.dto.PlaceInfoDto;
+import com.example.webserver.travel.entity.Schedule;
+import com.example.webserver.travel.entity.Trip;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 지도 표시용 여행 상세 응답: 각 일정에 장소 좌표/이미지/분류를 함께 담습니다.
+ */
+@Data
+public class EnrichedTripResponse {
+    private Long id;
+    private String title;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private List<EnrichedScheduleResponse> schedules;
+
+    public EnrichedTripResponse(Trip trip, Map<String, PlaceInfoDto> places) {
+        this.id = trip.getId();
+        this.title = trip.getTitle();
+        this.startDate = trip.getStartDate();
+        this.endDate = trip.getEndDate();
+        this.schedules = trip.getSchedules().stream()
+                .map(schedule -> new EnrichedScheduleResponse(schedule, places.get(schedule.getPlaceId())))
+                .collect(Collectors.toList());
+    }
+
+    @Data
+    static class EnrichedScheduleResponse {
+        private Integer day;
+        private Integer order;
+        private String placeId;
+        private String placeName;
+        private PlaceInfoDto place; // 장소 정보를 찾지 못하면 null
+
+        public EnrichedScheduleResponse(Schedule schedule, PlaceInfoDto place) {
+            this.day = schedule.getDayNumber();
+            this.order = schedule.getOrderIndex();
+            this.placeId = schedule.getPlaceId();
+            this.placeName = schedule.getPlaceName();
+            this.place = place;
+        }
+    }
+}
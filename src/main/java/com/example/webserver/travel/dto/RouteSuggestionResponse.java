@@ -0,0 +1,28 @@
+package com.example.webserver.travel.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 하루 일정의 추천 방문 순서
+ */
+@Getter
+@Builder
+public class RouteSuggestionResponse {
+    private Integer day;
+    private double currentDistanceKm;   // 현재 순서의 총 이동 거리 (좌표가 있는 장소 기준)
+    private double suggestedDistanceKm; // 추천 순서의 총 이동 거리
+    private boolean converged;          // false면 시간 예산 안에서 개선을 멈춘 결과
+    private List<Stop> stops;           // 추천 순서대로 정렬 (좌표가 없는 장소는 기존 순서대로 맨 뒤)
+
+    @Getter
+    @Builder
+    public static class Stop {
+        private String placeId;
+        private String placeName;
+        private Integer currentOrder;
+        private Integer suggestedOrder;
+    }
+}
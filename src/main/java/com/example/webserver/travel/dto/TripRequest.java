@@ -6,6 +6,7 @@ import java.util.List;
 
 @Data
 public class TripRequest {
+    private Long version; // 수정 시 클라이언트가 마지막으로 받은 버전 (null이면 버전 확인 생략)
     private String title;
     private LocalDate startDate;
     private LocalDate endDate;
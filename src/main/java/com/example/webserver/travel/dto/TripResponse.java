@@ -11,6 +11,7 @@ import java.util.stream.Collectors;
 @Data
 public class TripResponse {
     private Long id;
+    private Long version; // 수정 요청 시 그대로 돌려보내는 값 (낙관적 잠금)
     private String title;
     private LocalDate startDate;
     private LocalDate endDate;
@@ -19,6 +20,7 @@ public class TripResponse {
     // Entity -> DTO 변환 생성자
     public TripResponse(Trip trip) {
         this.id = trip.getId();
+        this.version = trip.getVersion();
         this.title = trip.getTitle();
         this.startDate = trip.getStartDate();
         this.endDate = trip.getEndDate();
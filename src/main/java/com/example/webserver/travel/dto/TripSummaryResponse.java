@@ -0,0 +1,30 @@
+package com.example.webserver.travel.dto;
+
+import com.example.webserver.travel.repository.TripSummaryView;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * 여행 목록 요약 응답 (일정 전체 대신 일정 개수와 첫 장소만 포함)
+ */
+@Data
+public class TripSummaryResponse {
+    private Long id;
+    private String title;
+    private LocalDate startDate;
+    private LocalDate endDate;
+    private long stopCount;
+    private String firstPlaceId;   // 첫 일정 장소 (일정이 없으면 null)
+    private String firstPlaceName;
+
+    public TripSummaryResponse(TripSummaryView view) {
+        this.id = view.getId();
+        this.title = view.getTitle();
+        this.startDate = view.getStartDate();
+        this.endDate = view.getEndDate();
+        this.stopCount = view.getStopCount() == null ? 0 : view.getStopCount();
+        this.firstPlaceId = view.getFirstPlaceId();
+        this.firstPlaceName = view.getFirstPlaceName();
+    }
+}
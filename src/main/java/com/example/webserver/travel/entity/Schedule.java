@@ -12,7 +12,8 @@ import lombok.Setter;
 public class Schedule {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "schedules_seq_generator")
+    @SequenceGenerator(name = "schedules_seq_generator", sequenceName = "schedules_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -3,6 +3,7 @@ package com.example.webserver.travel.entity;
 import com.example.webserver.auth.entity.User; // ✨ User 엔티티 임포트 필수!
 import jakarta.persistence.*;
 import lombok.Getter;
+import org.hibernate.annotations.BatchSize;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
@@ -17,9 +18,15 @@ import java.util.List;
 public class Trip {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "trips_seq_generator")
+    @SequenceGenerator(name = "trips_seq_generator", sequenceName = "trips_seq", allocationSize = 50)
     private Long id;
 
+    // 낙관적 잠금 버전: 동시에 수정하면 나중에 커밋하는 쪽이 409 Conflict를 받습니다.
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     private String title;
 
     private LocalDate startDate;
@@ -31,7 +38,9 @@ public class Trip {
     private User user;
 
     // 양방향 연관관계 설정
+    // 목록 조회 시 여러 여행의 일정을 IN 쿼리로 한 번에 로딩 (N+1 방지)
     @OneToMany(mappedBy = "trip", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100)
     @OrderBy("dayNumber ASC, orderIndex ASC")
     private List<Schedule> schedules = new ArrayList<>();
 
@@ -0,0 +1,18 @@
+package com.example.webserver.travel.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 여행이 수정/삭제되었을 때 발행되는 애플리케이션 이벤트
+ * (공유 여행 조회 캐시는 트랜잭션 커밋 이후에 이 이벤트를 받아 무효화합니다.)
+ */
+@Getter
+@RequiredArgsConstructor
+public class TripChangedEvent {
+
+    public enum Type { UPDATED, DELETED }
+
+    private final Long tripId;
+    private final Type type;
+}
@@ -0,0 +1,20 @@
+package com.example.webserver.travel.exception;
+
+import lombok.Getter;
+
+/**
+ * 여행 수정 시 클라이언트가 보낸 버전이 현재 버전과 다를 때 발생합니다. (409 Conflict)
+ * 클라이언트는 currentVersion 기준으로 최신 여행을 다시 받아 변경을 재적용합니다.
+ */
+@Getter
+public class TripVersionConflictException extends RuntimeException {
+
+    private final Long tripId;
+    private final Long currentVersion;
+
+    public TripVersionConflictException(Long tripId, Long currentVersion) {
+        super("다른 기기에서 먼저 수정된 여행입니다. (현재 버전: " + currentVersion + ")");
+        this.tripId = tripId;
+        this.currentVersion = currentVersion;
+    }
+}
@@ -1,13 +1,67 @@
 package com.example.webserver.travel.repository;
 
 import com.example.webserver.travel.entity.Trip;
+import org.springframework.data.jpa.repository.EntityGraph;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.Optional;
 
 public interface TripRepository extends JpaRepository<Trip, Long> {
 
     // "User의 UserId가 일치하는 Trip을 찾아라"
     // (SQL: SELECT * FROM trips WHERE user_id = ?)
     List<Trip> findAllByUser_UserIdOrderByStartDateDesc(Long userId);
-}
\ No newline at end of file
+
+    // 로그인 ID로 바로 필터링 (users 조인, 사용자 PK 조회 쿼리 불필요)
+    // 일정(schedules)은 Trip의 @BatchSize로 목록 전체에 대해 IN 쿼리 한 번으로 로딩됩니다.
+    List<Trip> findAllByUser_LoginUserIdOrderByStartDateDesc(String loginUserId);
+
+    // 요약 모드: 여행별 일정 개수와 첫 장소를 쿼리 한 번으로 조회
+    @Query(value = "SELECT t.id AS \"id\", t.title AS \"title\", " +
+            "t.start_date AS \"startDate\", t.end_date AS \"endDate\", " +
+            "st.stop_count AS \"stopCount\", st.first_place_id AS \"firstPlaceId\", st.first_place_name AS \"firstPlaceName\" " +
+            "FROM trips t " +
+            "JOIN users u ON u.user_id = t.user_id " +
+            "LEFT JOIN LATERAL (" +
+            "  SELECT count(*) AS stop_count, " +
+            "         (array_agg(s.place_id ORDER BY s.day_number, s.order_index))[1] AS first_place_id, " +
+            "         (array_agg(s.place_name ORDER BY s.day_number, s.order_index))[1] AS first_place_name " +
+            "  FROM schedules s WHERE s.trip_id = t.id" +
+            ") st ON true " +
+            "WHERE u.login_user_id = :loginUserId " +
+            "ORDER BY t.start_date DESC",
+            nativeQuery = true)
+    List<TripSummaryView> findSummariesByLoginUserId(@Param("loginUserId") String loginUserId);
+
+    // 여행 수정용: 스케줄을 함께 조회하고, 커밋 시 버전을 강제로 올립니다.
+    // (일정만 바뀌어도 Trip 버전이 증가해야 동시 수정을 감지할 수 있음 - 행 잠금 없음)
+    @Lock(LockModeType.OPTIMISTIC_FORCE_INCREMENT)
+    @EntityGraph(attributePaths = "schedules")
+    @Query("SELECT t FROM Trip t WHERE t.id = :id")
+    Optional<Trip> findForUpdateById(@Param("id") Long id);
+
+    @Query("SELECT t.version FROM Trip t WHERE t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    // 일정 수정 시 스케줄을 함께 조회 (일정 비교용)
+    @EntityGraph(attributePaths = "schedules")
+    Optional<Trip> findWithSchedulesById(Long id);
+
+    @Query("SELECT t.id FROM Trip t WHERE t.user.userId = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
+
+    // 회원 삭제 시 일정/여행을 엔티티 로딩 없이 일괄 삭제합니다. (일정 -> 여행 순서)
+    @Modifying
+    @Query("DELETE FROM Schedule s WHERE s.trip.id IN (SELECT t.id FROM Trip t WHERE t.user.userId = :userId)")
+    int deleteSchedulesByUserId(@Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM Trip t WHERE t.user.userId = :userId")
+    int deleteAllByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,16 @@
+package com.example.webserver.travel.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 여행 목록 요약 모드용 네이티브 쿼리 결과 (일정 엔티티를 로딩하지 않음)
+ */
+public interface TripSummaryView {
+    Long getId();
+    String getTitle();
+    LocalDate getStartDate();
+    LocalDate getEndDate();
+    Long getStopCount();
+    String getFirstPlaceId();
+    String getFirstPlaceName();
+}
@@ -0,0 +1,130 @@
+package com.example.webserver.travel.service;
+
+/**
+ * 하루 일정의 방문 순서를 정하는 경로 최적화 휴리스틱. (상태 없음, 스레드 안전)
+ *
+ * 출발지(첫 일정)를 고정한 열린 경로(돌아오지 않음)를 대상으로
+ * 최근접 이웃(nearest neighbour)으로 초기 경로를 만들고, 2-opt로 구간을 뒤집어 가며 개선합니다.
+ * 2-opt는 주어진 CPU 시간 예산 안에서만 반복하며, 예산을 넘으면 그때까지의 최선 경로를 반환합니다.
+ */
+public final class RouteOptimizer {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final double EPSILON = 1e-9;
+
+    private RouteOptimizer() {
+    }
+
+    /** 최적화 결과: 방문 순서(행렬 인덱스), 총 거리(km), 2-opt 수렴 여부 */
+    public record Result(int[] order, double distanceKm, boolean converged) {
+    }
+
+    /**
+     * 위도/경도 배열로 하버사인 거리 행렬(km)을 만듭니다. (대칭 행렬이므로 절반만 계산)
+     */
+    public static double[][] haversineMatrix(double[] lat, double[] lon) {
+        int n = lat.length;
+        double[][] distance = new double[n][n];
+        double[] latRad = new double[n];
+        double[] cosLat = new double[n];
+        for (int i = 0; i < n; i++) {
+            latRad[i] = Math.toRadians(lat[i]);
+            cosLat[i] = Math.cos(latRad[i]);
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                double dLat = latRad[j] - latRad[i];
+                double dLon = Math.toRadians(lon[j] - lon[i]);
+                double h = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                        + cosLat[i] * cosLat[j] * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+                double km = 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(h)));
+                distance[i][j] = km;
+                distance[j][i] = km;
+            }
+        }
+        return distance;
+    }
+
+    /**
+     * start에서 출발하는 경로를 최근접 이웃 + 2-opt로 구합니다.
+     * @param budgetNanos 2-opt에 쓸 수 있는 최대 시간 (나노초)
+     */
+    public static Result optimize(double[][] distance, int start, long budgetNanos) {
+        long deadline = System.nanoTime() + budgetNanos;
+        int[] order = nearestNeighbour(distance, start);
+        boolean converged = twoOpt(order, distance, deadline);
+        return new Result(order, pathLength(order, distance), converged);
+    }
+
+    static int[] nearestNeighbour(double[][] distance, int start) {
+        int n = distance.length;
+        int[] order = new int[n];
+        boolean[] visited = new boolean[n];
+        order[0] = start;
+        visited[start] = true;
+
+        for (int step = 1; step < n; step++) {
+            int current = order[step - 1];
+            int next = -1;
+            double best = Double.MAX_VALUE;
+            for (int candidate = 0; candidate < n; candidate++) {
+                if (!visited[candidate] && distance[current][candidate] < best) {
+                    best = distance[current][candidate];
+                    next = candidate;
+                }
+            }
+            order[step] = next;
+            visited[next] = true;
+        }
+        return order;
+    }
+
+    /**
+     * 열린 경로 2-opt (order[0] 고정). 구간 [i, k]를 뒤집어 거리가 줄면 반영합니다.
+     * @return 더 이상 개선이 없어 수렴했으면 true, 시간 예산을 넘겨 중단했으면 false
+     */
+    static boolean twoOpt(int[] order, double[][] distance, long deadline) {
+        int n = order.length;
+        boolean improved = true;
+        while (improved) {
+            improved = false;
+            for (int i = 1; i < n - 1; i++) {
+                if (System.nanoTime() > deadline) {
+                    return false;
+                }
+                int a = order[i - 1];
+                int b = order[i];
+                for (int k = i + 1; k < n; k++) {
+                    int c = order[k];
+                    double delta = distance[a][c] - distance[a][b];
+                    if (k + 1 < n) {
+                        int e = order[k + 1];
+                        delta += distance[b][e] - distance[c][e];
+                    }
+                    if (delta < -EPSILON) {
+                        reverse(order, i, k);
+                        b = order[i];
+                        improved = true;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    public static double pathLength(int[] order, double[][] distance) {
+        double total = 0;
+        for (int i = 1; i < order.length; i++) {
+            total += distance[order[i - 1]][order[i]];
+        }
+        return total;
+    }
+
+    private static void reverse(int[] order, int from, int to) {
+        while (from < to) {
+            int tmp = order[from];
+            order[from++] = order[to];
+            order[to--] = tmp;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.webserver.travel.service;
+
+import com.example.webserver.travel.dto.TripRequest;
+import com.example.webserver.travel.entity.Schedule;
+import com.example.webserver.travel.entity.Trip;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 저장된 일정 목록과 요청 일정 목록을 비교하여 필요한 변경만 엔티티에 반영합니다.
+ * (전체 삭제 후 재삽입 대신, 변경된 행만 INSERT/UPDATE/DELETE 되도록 합니다.)
+ *
+ * 매칭 순서
+ * 1. (일차, 순서, placeId)가 같은 행은 그대로 둡니다. (장소명만 다르면 UPDATE)
+ * 2. 같은 placeId의 행은 위치만 옮긴 것으로 보고 일차/순서를 UPDATE 합니다.
+ * 3. 남은 요청은 남은 기존 행을 덮어써 재사용하고(DELETE+INSERT 대신 UPDATE 한 번), 부족하면 INSERT 합니다.
+ * 4. 그래도 남은 기존 행은 컬렉션에서 제거합니다. (orphanRemoval로 DELETE)
+ */
+final class ScheduleMerger {
+
+    private ScheduleMerger() {
+    }
+
+    /** 병합 결과 (변경된 행 수) */
+    record Result(int inserted, int updated, int deleted) {
+    }
+
+    private record Key(Integer day, Integer order, String placeId) {
+    }
+
+    static Result merge(Trip trip, List<TripRequest.ScheduleDto> requested) {
+        List<Schedule> existing = trip.getSchedules();
+        List<TripRequest.ScheduleDto> incoming = requested == null ? List.of() : requested;
+
+        Set<Schedule> reused = Collections.newSetFromMap(new IdentityHashMap<>());
+        int inserted = 0;
+        int updated = 0;
+
+        // 1. 완전히 같은 위치의 같은 장소
+        Map<Key, Deque<Schedule>> byKey = new HashMap<>();
+        for (Schedule schedule : existing) {
+            byKey.computeIfAbsent(keyOf(schedule), k -> new ArrayDeque<>()).add(schedule);
+        }
+        List<TripRequest.ScheduleDto> unmatched = new ArrayList<>();
+        for (TripRequest.ScheduleDto dto : incoming) {
+            Deque<Schedule> candidates = byKey.get(keyOf(dto));
+            if (candidates == null || candidates.isEmpty()) {
+                unmatched.add(dto);
+                continue;
+            }
+            Schedule schedule = candidates.poll();
+            reused.add(schedule);
+            if (!Objects.equals(schedule.getPlaceName(), dto.getPlaceName())) {
+                schedule.setPlaceName(dto.getPlaceName());
+                updated++;
+            }
+        }
+
+        // 2. 같은 장소가 다른 일차/순서로 이동
+        Map<String, Deque<Schedule>> byPlace = new HashMap<>();
+        for (Schedule schedule : existing) {
+            if (!reused.contains(schedule)) {
+                byPlace.computeIfAbsent(schedule.getPlaceId(), k -> new ArrayDeque<>()).add(schedule);
+            }
+        }
+        List<TripRequest.ScheduleDto> remaining = new ArrayList<>();
+        for (TripRequest.ScheduleDto dto : unmatched) {
+            Deque<Schedule> candidates = byPlace.get(dto.getPlaceId());
+            if (candidates == null || candidates.isEmpty()) {
+                remaining.add(dto);
+                continue;
+            }
+            Schedule schedule = candidates.poll();
+            reused.add(schedule);
+            apply(schedule, dto);
+            updated++;
+        }
+
+        // 3. 남은 기존 행을 재사용하고, 모자라면 새로 추가
+        List<Schedule> leftovers = new ArrayList<>();
+        for (Schedule schedule : existing) {
+            if (!reused.contains(schedule)) {
+                leftovers.add(schedule);
+            }
+        }
+        Iterator<Schedule> leftoverIterator = leftovers.iterator();
+        List<Schedule> toInsert = new ArrayList<>();
+        for (TripRequest.ScheduleDto dto : remaining) {
+            if (leftoverIterator.hasNext()) {
+                Schedule schedule = leftoverIterator.next();
+                leftoverIterator.remove();
+                apply(schedule, dto);
+                updated++;
+            } else {
+                toInsert.add(Schedule.createSchedule(dto.getDay(), dto.getOrder(), dto.getPlaceId(), dto.getPlaceName()));
+            }
+        }
+
+        // 4. 요청에 없는 기존 행 삭제 (컬렉션에서 제거 -> orphanRemoval)
+        Set<Schedule> toDelete = Collections.newSetFromMap(new IdentityHashMap<>());
+        toDelete.addAll(leftovers);
+        existing.removeIf(toDelete::contains);
+
+        for (Schedule schedule : toInsert) {
+            trip.addSchedule(schedule);
+            inserted++;
+        }
+        return new Result(inserted, updated, toDelete.size());
+    }
+
+    private static void apply(Schedule schedule, TripRequest.ScheduleDto dto) {
+        schedule.setDayNumber(dto.getDay());
+        schedule.setOrderIndex(dto.getOrder());
+        schedule.setPlaceId(dto.getPlaceId());
+        schedule.setPlaceName(dto.getPlaceName());
+    }
+
+    private static Key keyOf(Schedule schedule) {
+        return new Key(schedule.getDayNumber(), schedule.getOrderIndex(), schedule.getPlaceId());
+    }
+
+    private static Key keyOf(TripRequest.ScheduleDto dto) {
+        return new Key(dto.getDay(), dto.getOrder(), dto.getPlaceId());
+    }
+}
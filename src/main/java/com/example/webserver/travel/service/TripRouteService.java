@@ -0,0 +1,173 @@
+package com.example.webserver.travel.service;
+
+import com.example.webserver.tour.dto.PlaceInfoDto;
+import com.example.webserver.tour.service.PlaceInfoService;
+import com.example.webserver.travel.dto.RouteSuggestionResponse;
+import com.example.webserver.travel.entity.Schedule;
+import com.example.webserver.travel.entity.Trip;
+import com.example.webserver.travel.repository.TripRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 여행의 하루 일정에 대해 이동 거리가 짧은 방문 순서를 추천합니다.
+ * 좌표는 tour_item(mapx/mapy)에서 가져오고, 거리 행렬은 장소 ID 집합별로 캐시합니다.
+ */
+@Service
+public class TripRouteService {
+
+    private final TripRepository tripRepository;
+    private final PlaceInfoService placeInfoService;
+    private final long timeBudgetNanos;
+    private final int maxStops;
+
+    // 정렬된 장소 ID 목록 -> 하버사인 거리 행렬 (행/열 순서 = 정렬된 ID 순서)
+    // 행렬 크기가 장소 수의 제곱이므로 항목 수가 아니라 행렬 바이트 수로 상한을 둡니다.
+    private final Cache<List<String>, double[][]> matrixCache;
+
+    public TripRouteService(TripRepository tripRepository,
+                            PlaceInfoService placeInfoService,
+                            MeterRegistry meterRegistry,
+                            @Value("${trip.route.time-budget:50ms}") Duration timeBudget,
+                            @Value("${trip.route.max-stops:200}") int maxStops,
+                            @Value("${trip.route.matrix-cache-max-size:32MB}") DataSize matrixCacheMaxSize,
+                            @Value("${trip.route.matrix-cache-ttl:1h}") Duration matrixCacheTtl) {
+        this.tripRepository = tripRepository;
+        this.placeInfoService = placeInfoService;
+        this.timeBudgetNanos = timeBudget.toNanos();
+        this.maxStops = maxStops;
+        this.matrixCache = Caffeine.newBuilder()
+                .maximumWeight(matrixCacheMaxSize.toBytes())
+                .weigher((List<String> ids, double[][] matrix) -> matrixBytes(matrix.length))
+                .expireAfterAccess(matrixCacheTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, matrixCache, "trip.route.matrix");
+    }
+
+    /** n x n double 행렬의 대략적인 힙 사용량 (행 배열 헤더 포함) */
+    private static int matrixBytes(int n) {
+        return n * (16 + n * Double.BYTES) + 16;
+    }
+
+    // 트랜잭션 없이 실행하므로 일정 조회 쿼리는 리포지토리 호출 동안만 커넥션을 씁니다.
+    // OSIV를 끈 상태(spring.jpa.open-in-view=false)이므로 이후 좌표 보충(외부 API) 대기 중에는 커넥션을 잡고 있지 않습니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RouteSuggestionResponse suggestDayRoute(Long tripId, Integer day) {
+        Trip trip = tripRepository.findWithSchedulesById(tripId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 여행 정보를 찾을 수 없습니다. id=" + tripId));
+
+        List<Schedule> daySchedules = trip.getSchedules().stream()
+                .filter(schedule -> day.equals(schedule.getDayNumber()))
+                .sorted(Comparator.comparing(Schedule::getOrderIndex))
+                .toList();
+        if (daySchedules.size() > maxStops) {
+            throw new IllegalArgumentException("하루 일정은 최대 " + maxStops + "개까지 최적화할 수 있습니다.");
+        }
+
+        Map<String, PlaceInfoDto> places = placeInfoService.resolve(
+                daySchedules.stream().map(Schedule::getPlaceId).toList());
+
+        // 좌표가 있는 일정만 최적화 대상 (없는 일정은 기존 순서대로 뒤에 붙임)
+        List<Schedule> routable = new ArrayList<>();
+        List<Schedule> unroutable = new ArrayList<>();
+        for (Schedule schedule : daySchedules) {
+            PlaceInfoDto place = places.get(schedule.getPlaceId());
+            if (place != null && place.getMapx() != null && place.getMapy() != null) {
+                routable.add(schedule);
+            } else {
+                unroutable.add(schedule);
+            }
+        }
+
+        List<Schedule> suggested = new ArrayList<>(daySchedules.size());
+        double currentKm = 0;
+        double suggestedKm = 0;
+        boolean converged = true;
+
+        if (routable.size() <= 2) {
+            suggested.addAll(routable);
+        } else {
+            // 장소 ID 집합이 같으면 같은 행렬을 재사용 (같은 장소가 여러 번 있어도 행렬은 고유 ID 기준)
+            List<String> placeIds = new ArrayList<>(new TreeSet<>(routable.stream().map(Schedule::getPlaceId).toList()));
+            double[][] placeMatrix = matrixCache.get(placeIds, ids -> buildMatrix(ids, places));
+
+            // 일정 인덱스 -> 장소 행렬 인덱스로 일정 단위 거리 행렬 구성
+            int n = routable.size();
+            int[] placeIndex = new int[n];
+            for (int i = 0; i < n; i++) {
+                placeIndex[i] = placeIds.indexOf(routable.get(i).getPlaceId());
+            }
+            double[][] distance = new double[n][n];
+            for (int i = 0; i < n; i++) {
+                for (int j = 0; j < n; j++) {
+                    distance[i][j] = placeMatrix[placeIndex[i]][placeIndex[j]];
+                }
+            }
+
+            int[] currentOrder = new int[n];
+            for (int i = 0; i < n; i++) {
+                currentOrder[i] = i;
+            }
+            currentKm = RouteOptimizer.pathLength(currentOrder, distance);
+
+            // 첫 일정(출발지)은 고정합니다.
+            RouteOptimizer.Result result = RouteOptimizer.optimize(distance, 0, timeBudgetNanos);
+            if (result.distanceKm() < currentKm) {
+                for (int index : result.order()) {
+                    suggested.add(routable.get(index));
+                }
+                suggestedKm = result.distanceKm();
+            } else {
+                suggested.addAll(routable);
+                suggestedKm = currentKm;
+            }
+            converged = result.converged();
+        }
+        suggested.addAll(unroutable);
+
+        List<RouteSuggestionResponse.Stop> stops = new ArrayList<>(suggested.size());
+        for (int i = 0; i < suggested.size(); i++) {
+            Schedule schedule = suggested.get(i);
+            stops.add(RouteSuggestionResponse.Stop.builder()
+                    .placeId(schedule.getPlaceId())
+                    .placeName(schedule.getPlaceName())
+                    .currentOrder(schedule.getOrderIndex())
+                    .suggestedOrder(i)
+                    .build());
+        }
+
+        return RouteSuggestionResponse.builder()
+                .day(day)
+                .currentDistanceKm(currentKm)
+                .suggestedDistanceKm(suggestedKm)
+                .converged(converged)
+                .stops(stops)
+                .build();
+    }
+
+    private static double[][] buildMatrix(List<String> placeIds, Map<String, PlaceInfoDto> places) {
+        double[] lat = new double[placeIds.size()];
+        double[] lon = new double[placeIds.size()];
+        for (int i = 0; i < placeIds.size(); i++) {
+            PlaceInfoDto place = places.get(placeIds.get(i));
+            lat[i] = place.getMapy();
+            lon[i] = place.getMapx();
+        }
+        return RouteOptimizer.haversineMatrix(lat, lon);
+    }
+}
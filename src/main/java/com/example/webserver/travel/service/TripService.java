@@ -1,19 +1,32 @@
 package com.example.webserver.travel.service;
 
 import com.example.webserver.auth.entity.User;
+import com.example.webserver.auth.cache.PrincipalCache;
 import com.example.webserver.auth.repository.UserRepository;
 import com.example.webserver.travel.entity.Schedule;
 import com.example.webserver.travel.entity.Trip;
+import com.example.webserver.travel.event.TripChangedEvent;
+import com.example.webserver.travel.exception.TripVersionConflictException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.example.webserver.travel.repository.TripRepository;
+import com.example.webserver.tour.service.PlaceInfoService;
+import com.example.webserver.travel.cache.TripViewCache;
+import com.example.webserver.travel.dto.EnrichedTripResponse;
 import com.example.webserver.travel.dto.TripRequest;
 import com.example.webserver.travel.dto.TripResponse;
+import com.example.webserver.travel.dto.TripSummaryResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -21,21 +34,27 @@ public class TripService {
 
     private final TripRepository tripRepository;
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final PlaceInfoService placeInfoService;
+    private final TripViewCache tripViewCache;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
-     * 유저의 로그인 ID(String)를 받아서 User 엔티티를 조회하는 헬퍼 메서드
-     * 이 메서드를 통해 토큰(String ID)에서 DB 엔티티(User)를 연결합니다.
+     * 유저의 로그인 ID(String)를 받아서 회원 PK를 찾는 헬퍼 메서드
+     * 로그인 사용자 캐시를 사용하므로 대부분 DB 쿼리가 발생하지 않습니다.
      */
-    private User findUserByLoginId(String loginUserId) {
-        return userRepository.findByLoginUserId(loginUserId)
+    private Long findUserIdByLoginId(String loginUserId) {
+        return principalCache.get(loginUserId)
+                .map(PrincipalCache.Entry::userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자(loginId: " + loginUserId + ")를 찾을 수 없습니다."));
     }
 
     // 1. 여행 생성 (Create) - 작성자 저장 포함
     @Transactional
     public Long createTrip(TripRequest request, String loginUserId) { // ✨ 파라미터 타입 변경
-        // ✨ 유저 엔티티 조회 (DB 쿼리 발생)
-        User user = findUserByLoginId(loginUserId);
+        // ✨ 작성자는 캐시된 PK로 프록시 참조만 만듭니다. (User 조회 쿼리 없음)
+        User user = userRepository.getReferenceById(findUserIdByLoginId(loginUserId));
 
         // Trip 엔티티 생성
         Trip trip = Trip.createTrip(request.getTitle(), request.getStartDate(), request.getEndDate());
@@ -59,56 +78,96 @@ public class TripService {
     }
 
     // 2. 내 여행 목록 조회 (Read) - String loginUserId로 필터링
+    // users 조인으로 바로 필터링하고, 일정은 목록 전체에 대해 IN 쿼리 한 번으로 로딩합니다.
     public List<TripResponse> getMyTrips(String loginUserId) { // ✨ 파라미터 타입 변경
-        // ✨ 유저 엔티티 조회 (User PK를 얻기 위함)
-        User user = findUserByLoginId(loginUserId);
-
-        // PK(userId)를 사용해 내 여행만 조회
-        List<Trip> trips = tripRepository.findAllByUser_UserIdOrderByStartDateDesc(user.getUserId());
+        List<Trip> trips = tripRepository.findAllByUser_LoginUserIdOrderByStartDateDesc(loginUserId);
 
         return trips.stream()
                 .map(TripResponse::new)
                 .collect(Collectors.toList());
     }
 
+    // 2-1. 내 여행 목록 요약 조회 (일정 개수/첫 장소만, 쿼리 한 번)
+    public List<TripSummaryResponse> getMyTripSummaries(String loginUserId) {
+        return tripRepository.findSummariesByLoginUserId(loginUserId).stream()
+                .map(TripSummaryResponse::new)
+                .collect(Collectors.toList());
+    }
+
     // 3. 여행 상세 조회 (Read) - 변경 없음
     public TripResponse getTrip(Long tripId) {
-        Trip trip = tripRepository.findById(tripId)
+        Trip trip = tripRepository.findWithSchedulesById(tripId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 여행 정보를 찾을 수 없습니다. id=" + tripId));
         return new TripResponse(trip);
     }
 
+    // 3-0. 공유 링크용 여행 상세 조회: 직렬화된 응답을 캐시에서 반환합니다.
+    // 트랜잭션 없이 실행하므로 캐시 적중 시에는 커넥션을 빌리지 않습니다. (미스 시 일정은 EntityGraph로 함께 로딩)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public TripViewCache.Entry getTripView(Long tripId) {
+        return tripViewCache.get(tripId, id -> {
+            TripResponse response = getTrip(id);
+            try {
+                return new TripViewCache.Entry(response.getVersion(), objectMapper.writeValueAsBytes(response));
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("여행 응답 직렬화 실패: id=" + id, e);
+            }
+        });
+    }
+
+    // 3-1. 여행 상세 + 장소 정보 (좌표/이미지/분류) 조회
+    // 일정의 placeId를 tour_item IN 쿼리 한 번으로 풀고, 없는 것만 상세 캐시/외부 API로 보충합니다.
+    // 트랜잭션 없이 실행하므로 조회 쿼리는 리포지토리 호출 동안만 커넥션을 쓰고 바로 반납합니다. (일정은 EntityGraph로 미리 로딩)
+    // OSIV를 끈 상태(spring.jpa.open-in-view=false)이므로 이후 외부 API 대기 중에는 커넥션을 잡고 있지 않습니다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public EnrichedTripResponse getEnrichedTrip(Long tripId) {
+        Trip trip = tripRepository.findWithSchedulesById(tripId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 여행 정보를 찾을 수 없습니다. id=" + tripId));
+
+        List<String> placeIds = trip.getSchedules().stream()
+                .map(Schedule::getPlaceId)
+                .collect(Collectors.toList());
+
+        return new EnrichedTripResponse(trip, placeInfoService.resolve(placeIds));
+    }
+
     // 4. 여행 수정 (Update) - 권한 체크 추가
     @Transactional
     public void updateTrip(Long tripId, TripRequest request, String loginUserId) { // ✨ 파라미터 타입 변경
-        Trip trip = tripRepository.findById(tripId)
+        // 일정 비교를 위해 스케줄을 함께 조회 (커밋 시 버전 강제 증가)
+        Trip trip = tripRepository.findForUpdateById(tripId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 여행 정보를 찾을 수 없습니다."));
 
         // ✨ 권한 확인: 작성자의 PK와 로그인한 사용자의 PK가 같은지 체크
-        User currentUser = findUserByLoginId(loginUserId);
-        if (!trip.getUser().getUserId().equals(currentUser.getUserId())) {
+        // (버전 확인보다 먼저 해야 작성자가 아닌 사용자에게 409와 현재 버전이 노출되지 않습니다.)
+        Long currentUserId = findUserIdByLoginId(loginUserId);
+        if (!trip.getUser().getUserId().equals(currentUserId)) {
             throw new IllegalArgumentException("수정 권한이 없습니다.");
         }
 
+        // ✨ 버전 확인: 클라이언트가 본 버전 이후에 다른 수정이 있었으면 409
+        // (확인 이후 커밋 사이에 끼어든 수정은 UPDATE ... WHERE version = ? 에서 감지됩니다.)
+        if (request.getVersion() != null && !request.getVersion().equals(trip.getVersion())) {
+            throw new TripVersionConflictException(tripId, trip.getVersion());
+        }
+
         // A. 기본 정보 수정
         trip.setTitle(request.getTitle());
         trip.setStartDate(request.getStartDate());
         trip.setEndDate(request.getEndDate());
 
-        // B. 스케줄 수정 (전체 교체 전략)
-        trip.getSchedules().clear();
+        // B. 스케줄 수정 (변경분만 반영: 바뀐 행만 INSERT/UPDATE/DELETE)
+        ScheduleMerger.Result result = ScheduleMerger.merge(trip, request.getSchedules());
+        log.debug("Trip {} schedules merged: {} inserted, {} updated, {} deleted",
+                tripId, result.inserted(), result.updated(), result.deleted());
 
-        if (request.getSchedules() != null) {
-            for (TripRequest.ScheduleDto dto : request.getSchedules()) {
-                Schedule schedule = Schedule.createSchedule(
-                        dto.getDay(),
-                        dto.getOrder(),
-                        dto.getPlaceId(),
-                        dto.getPlaceName()
-                );
-                trip.addSchedule(schedule);
-            }
-        }
+        eventPublisher.publishEvent(new TripChangedEvent(tripId, TripChangedEvent.Type.UPDATED));
+    }
+
+    /** 현재 버전만 조회합니다. (수정 응답 헤더, 동시 수정 충돌 응답용) */
+    public Long getTripVersion(Long tripId) {
+        return tripRepository.findVersionById(tripId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 여행 정보를 찾을 수 없습니다. id=" + tripId));
     }
 
     // 5. 여행 삭제 (Delete) - 권한 체크 추가
@@ -118,11 +177,12 @@ public class TripService {
                 .orElseThrow(() -> new IllegalArgumentException("해당 여행 정보를 찾을 수 없습니다."));
 
         // ✨ 권한 확인: 작성자의 PK와 로그인한 사용자의 PK가 같은지 체크
-        User currentUser = findUserByLoginId(loginUserId);
-        if (!trip.getUser().getUserId().equals(currentUser.getUserId())) {
+        Long currentUserId = findUserIdByLoginId(loginUserId);
+        if (!trip.getUser().getUserId().equals(currentUserId)) {
             throw new IllegalArgumentException("삭제 권한이 없습니다.");
         }
 
         tripRepository.delete(trip);
+        eventPublisher.publishEvent(new TripChangedEvent(tripId, TripChangedEvent.Type.DELETED));
     }
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+-- 로그아웃 등으로 폐기된 액세스 토큰(jti). 각 노드가 revoked_at 기준으로 새 행을 주기적으로 읽어
+-- 메모리 폐기 목록을 동기화합니다. (토큰 만료 시각이 지나면 삭제)
+CREATE TABLE IF NOT EXISTS revoked_access_token (
+    token_id   VARCHAR(36)  PRIMARY KEY,
+    expires_at TIMESTAMP(6) NOT NULL,
+    revoked_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_revoked_access_token_revoked_at ON revoked_access_token (revoked_at);
+CREATE INDEX IF NOT EXISTS idx_revoked_access_token_expires_at ON revoked_access_token (expires_at);
@@ -0,0 +1,9 @@
+-- 관리자 회원 목록 필터용 인덱스
+-- 닉네임 접두어 검색(LIKE 'prefix%')은 로캘과 무관하게 btree를 쓰도록 text_pattern_ops로 만듭니다.
+DO $$
+BEGIN
+    IF to_regclass('users') IS NOT NULL THEN
+        CREATE INDEX IF NOT EXISTS idx_users_join_date ON users (join_date);
+        CREATE INDEX IF NOT EXISTS idx_users_nickname_pattern ON users (nickname text_pattern_ops);
+    END IF;
+END $$;
@@ -0,0 +1,3 @@
+-- 댓글 목록의 조건부 GET(ETag / Last-Modified)을 위한 리뷰별 댓글 버전 정보
+ALTER TABLE IF EXISTS review ADD COLUMN IF NOT EXISTS comment_version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE IF EXISTS review ADD COLUMN IF NOT EXISTS comments_modified_at TIMESTAMP(6);
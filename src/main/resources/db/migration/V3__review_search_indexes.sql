@@ -0,0 +1,15 @@
+-- 리뷰 검색용 인덱스
+-- 1) 필터 + 키셋 페이지네이션 (created_at DESC, review_id DESC)
+-- 2) 제목/내용 부분 일치 검색 (pg_trgm GIN, 한글 부분 문자열 검색 지원)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+DO $$
+BEGIN
+    IF to_regclass('review') IS NOT NULL THEN
+        CREATE INDEX IF NOT EXISTS idx_review_created_at_id ON review (created_at DESC, review_id DESC);
+        CREATE INDEX IF NOT EXISTS idx_review_region_created_at ON review (region, created_at DESC, review_id DESC);
+        CREATE INDEX IF NOT EXISTS idx_review_spot_created_at ON review (spot_content_id, created_at DESC, review_id DESC);
+        CREATE INDEX IF NOT EXISTS idx_review_title_trgm ON review USING gin (title gin_trgm_ops);
+        CREATE INDEX IF NOT EXISTS idx_review_content_trgm ON review USING gin (content gin_trgm_ops);
+    END IF;
+END $$;
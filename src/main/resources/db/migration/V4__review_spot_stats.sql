@@ -0,0 +1,18 @@
+-- 여행지(spot_content_id)별 리뷰 집계 (리뷰 생성/삭제 시 증분 갱신)
+CREATE TABLE IF NOT EXISTS review_spot_stats (
+    spot_content_id  VARCHAR(255) PRIMARY KEY,
+    review_count     BIGINT       NOT NULL,
+    latest_review_at TIMESTAMP(6)
+);
+
+-- 기존 리뷰로 초기 집계 채우기
+DO $$
+BEGIN
+    IF to_regclass('review') IS NOT NULL THEN
+        INSERT INTO review_spot_stats (spot_content_id, review_count, latest_review_at)
+        SELECT spot_content_id, count(*), max(created_at)
+        FROM review
+        GROUP BY spot_content_id
+        ON CONFLICT (spot_content_id) DO NOTHING;
+    END IF;
+END $$;
@@ -0,0 +1,20 @@
+-- 백그라운드 삭제 대상 회원의 숨김 처리 시각
+ALTER TABLE IF EXISTS users ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP(6);
+
+-- 집합 단위 삭제(DELETE ... WHERE review_id IN (...) / user_id = ?)용 인덱스
+DO $$
+BEGIN
+    IF to_regclass('comment') IS NOT NULL THEN
+        CREATE INDEX IF NOT EXISTS idx_comment_review_created_at ON comment (review_id, created_at);
+        CREATE INDEX IF NOT EXISTS idx_comment_user_id ON comment (user_id);
+    END IF;
+    IF to_regclass('review') IS NOT NULL THEN
+        CREATE INDEX IF NOT EXISTS idx_review_user_id ON review (user_id, review_id);
+    END IF;
+    IF to_regclass('trips') IS NOT NULL THEN
+        CREATE INDEX IF NOT EXISTS idx_trips_user_id ON trips (user_id);
+    END IF;
+    IF to_regclass('schedules') IS NOT NULL THEN
+        CREATE INDEX IF NOT EXISTS idx_schedules_trip_id ON schedules (trip_id);
+    END IF;
+END $$;
@@ -0,0 +1,6 @@
+-- 인기 리뷰(시간 감쇠 점수) 스냅샷: 서버 재시작 시 메모리 집계를 복원합니다.
+CREATE TABLE IF NOT EXISTS review_trending_snapshot (
+    review_id   BIGINT           PRIMARY KEY,
+    score       DOUBLE PRECISION NOT NULL,
+    snapshot_at TIMESTAMP(6)     NOT NULL
+);
@@ -0,0 +1,35 @@
+-- IDENTITY -> 시퀀스(pooled-lo, 50개 단위 할당) 전환
+-- Hibernate가 ID를 미리 확보하므로 INSERT를 JDBC 배치로 묶을 수 있습니다.
+-- pooled-lo에서는 시퀀스 값이 각 블록의 시작값이므로 INCREMENT BY는 allocationSize(50)와 같아야 합니다.
+CREATE SEQUENCE IF NOT EXISTS trips_seq INCREMENT BY 50 START WITH 1;
+CREATE SEQUENCE IF NOT EXISTS schedules_seq INCREMENT BY 50 START WITH 1;
+CREATE SEQUENCE IF NOT EXISTS review_seq INCREMENT BY 50 START WITH 1;
+CREATE SEQUENCE IF NOT EXISTS comment_seq INCREMENT BY 50 START WITH 1;
+CREATE SEQUENCE IF NOT EXISTS users_user_id_seq INCREMENT BY 1 START WITH 1;
+ALTER SEQUENCE users_user_id_seq INCREMENT BY 50;
+
+-- 기존 데이터의 최대 ID 다음 값부터 발급하고, DB 쪽 자동 채번(IDENTITY/DEFAULT)은 제거합니다.
+-- (DB가 발급한 값과 애플리케이션이 할당한 블록이 겹치지 않도록)
+DO $$
+BEGIN
+    IF to_regclass('trips') IS NOT NULL THEN
+        ALTER TABLE trips ALTER COLUMN id DROP IDENTITY IF EXISTS;
+        PERFORM setval('trips_seq', COALESCE((SELECT max(id) FROM trips), 0) + 1, false);
+    END IF;
+    IF to_regclass('schedules') IS NOT NULL THEN
+        ALTER TABLE schedules ALTER COLUMN id DROP IDENTITY IF EXISTS;
+        PERFORM setval('schedules_seq', COALESCE((SELECT max(id) FROM schedules), 0) + 1, false);
+    END IF;
+    IF to_regclass('review') IS NOT NULL THEN
+        ALTER TABLE review ALTER COLUMN review_id DROP IDENTITY IF EXISTS;
+        PERFORM setval('review_seq', COALESCE((SELECT max(review_id) FROM review), 0) + 1, false);
+    END IF;
+    IF to_regclass('comment') IS NOT NULL THEN
+        ALTER TABLE comment ALTER COLUMN comment_id DROP IDENTITY IF EXISTS;
+        PERFORM setval('comment_seq', COALESCE((SELECT max(comment_id) FROM comment), 0) + 1, false);
+    END IF;
+    IF to_regclass('users') IS NOT NULL THEN
+        ALTER TABLE users ALTER COLUMN user_id DROP DEFAULT;
+        PERFORM setval('users_user_id_seq', COALESCE((SELECT max(user_id) FROM users), 0) + 1, false);
+    END IF;
+END $$;
@@ -0,0 +1,2 @@
+-- 여행 낙관적 잠금 버전 (동시 수정 감지)
+ALTER TABLE IF EXISTS trips ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,35 @@
+-- 리프레시 토큰 세션: 기기별 1행, 토큰 원문 대신 SHA-256(16진수) 해시를 저장합니다.
+CREATE SEQUENCE IF NOT EXISTS refresh_session_seq INCREMENT BY 50 START WITH 1;
+
+CREATE TABLE IF NOT EXISTS refresh_session (
+    session_id   BIGINT       PRIMARY KEY,
+    token_hash   VARCHAR(64)  NOT NULL,
+    user_id      BIGINT       NOT NULL REFERENCES users (user_id) ON DELETE CASCADE,
+    device       VARCHAR(255),
+    created_at   TIMESTAMP(6) NOT NULL,
+    last_used_at TIMESTAMP(6) NOT NULL,
+    expires_at   TIMESTAMP(6) NOT NULL
+);
+
+-- 재발급: 토큰 해시 단건 조회 / 회원별 세션 정리 / 만료 세션 주기 삭제
+CREATE UNIQUE INDEX IF NOT EXISTS uk_refresh_session_token_hash ON refresh_session (token_hash);
+CREATE INDEX IF NOT EXISTS idx_refresh_session_user_id ON refresh_session (user_id, last_used_at);
+CREATE INDEX IF NOT EXISTS idx_refresh_session_expires_at ON refresh_session (expires_at);
+
+-- 기존 users.refresh_token을 세션으로 옮긴 뒤 컬럼을 제거합니다.
+-- (기존 토큰에는 만료 시각을 알 수 없으므로 최대 유효기간(7일)을 부여합니다. 토큰 자체의 exp 검증은 그대로 적용됩니다.
+--  jti가 없던 기존 토큰은 같은 시각에 발급되면 값이 같을 수 있어, 해시가 겹치면 한 건만 옮깁니다.)
+DO $$
+BEGIN
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_name = 'users' AND column_name = 'refresh_token') THEN
+        INSERT INTO refresh_session (session_id, token_hash, user_id, device, created_at, last_used_at, expires_at)
+        SELECT nextval('refresh_session_seq'), encode(sha256(convert_to(refresh_token, 'UTF8')), 'hex'), user_id,
+               'legacy', now(), now(), now() + INTERVAL '7 days'
+        FROM users
+        WHERE refresh_token IS NOT NULL AND deleted_at IS NULL
+        ON CONFLICT (token_hash) DO NOTHING;
+
+        ALTER TABLE users DROP COLUMN refresh_token;
+    END IF;
+END $$;